@@ -0,0 +1,53 @@
+package com.sal.fm.bench;
+
+import com.sal.fm.engine.AttributeCalculator;
+import com.sal.fm.model.player.Player;
+import com.sal.fm.model.team.Team;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the stat-based chance calculations used in every duel.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AttributeCalculatorBenchmark {
+
+    private Player shooter;
+    private Player defender;
+    private Player goalkeeper;
+
+    @Setup
+    public void setup() {
+        List<Team> teams = BenchmarkFixtures.teams(2, 12);
+        shooter = teams.get(0).getLineupView().getFieldPlayers().get(0);
+        defender = teams.get(1).getLineupView().getFieldPlayers().get(0);
+        goalkeeper = teams.get(1).getLineupView().getGoalkeepers().get(0);
+    }
+
+    @Benchmark
+    public double shootingAccuracy() {
+        return AttributeCalculator.calculateShootingAccuracy(shooter);
+    }
+
+    @Benchmark
+    public double shotSuccessChance() {
+        return AttributeCalculator.calculateShotSuccessChance(shooter, goalkeeper);
+    }
+
+    @Benchmark
+    public double passSuccessChance() {
+        return AttributeCalculator.calculatePassSuccessChance(shooter, defender);
+    }
+
+    @Benchmark
+    public double passScore() {
+        return AttributeCalculator.calculatePassScore(shooter);
+    }
+}
@@ -0,0 +1,79 @@
+package com.sal.fm.bench;
+
+import com.sal.fm.builder.LineupBuilder;
+import com.sal.fm.builder.PlayerGenerator;
+import com.sal.fm.enums.Position;
+import com.sal.fm.enums.Tactic;
+import com.sal.fm.model.Match;
+import com.sal.fm.model.Universe;
+import com.sal.fm.model.league.League;
+import com.sal.fm.model.team.Team;
+import com.sal.fm.util.Dice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-seed test data shared by all benchmarks, so numbers are comparable run to run.
+ */
+public final class BenchmarkFixtures {
+
+    /** Seed used by every benchmark fixture */
+    public static final long SEED = 20240601L;
+
+    private static final Position[] FIELD_POSITIONS = {Position.FIXO, Position.PIVOT, Position.WINGER};
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Builds a team with the given roster size (2 goalkeepers, field positions in rotation)
+     * and a generated lineup. Players are numbered and packed by the given universe.
+     */
+    public static Team team(String name, Tactic tactic, int rosterSize, Dice dice, Universe universe) {
+        Team team = new Team(name, tactic);
+        team.addPlayer(PlayerGenerator.generatePlayer(Position.GOALKEEPER, dice, universe));
+        team.addPlayer(PlayerGenerator.generatePlayer(Position.GOALKEEPER, dice, universe));
+
+        for (int i = 2; i < rosterSize; i++) {
+            Position position = FIELD_POSITIONS[i % FIELD_POSITIONS.length];
+            team.addPlayer(PlayerGenerator.generatePlayer(position, dice, universe));
+        }
+
+        LineupBuilder.generateLineup(team);
+        return team;
+    }
+
+    /**
+     * Builds {@code count} teams, each generated from its own stream of {@link #SEED}.
+     */
+    public static List<Team> teams(int count, int rosterSize) {
+        Universe universe = new Universe();
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Tactic tactic = (i % 2 == 0) ? Tactic.DIAMOND : Tactic.SQUARE;
+            teams.add(team(String.format("Team %03d", i), tactic, rosterSize, Dice.forStream(SEED, i), universe));
+        }
+        return teams;
+    }
+
+    /**
+     * Builds a league of any size with its generated double round-robin calendar.
+     *
+     * @param teamCount  number of teams
+     * @param rosterSize players per team
+     * @param playAll    if true, every fixture is simulated headless so the table is full
+     */
+    public static League league(int teamCount, int rosterSize, boolean playAll) {
+        League league = new League(teams(teamCount, rosterSize), SEED);
+
+        if (playAll) {
+            for (Match match : league.getMatches()) {
+                match.enableHeadlessMode();
+                match.startMatch(league.seedFor(match));
+                league.recordResult(match);
+            }
+        }
+        return league;
+    }
+}
@@ -0,0 +1,51 @@
+package com.sal.fm.bench;
+
+import com.sal.fm.model.league.League;
+import com.sal.fm.model.league.LeagueStandings;
+import com.sal.fm.model.league.LeagueTableEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of reading the league table, recording a result into it, and rebuilding it
+ * from a fully played season (what loading an old save without standings does).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LeagueTableBenchmark {
+
+    @Param({"12", "20", "40"})
+    public int leagueSize;
+
+    private League league;
+    private int next;
+
+    @Setup
+    public void setup() {
+        league = BenchmarkFixtures.league(leagueSize, 12, true);
+    }
+
+    @Benchmark
+    public List<LeagueTableEntry> readTable() {
+        return league.getStandings().getRanking();
+    }
+
+    @Benchmark
+    public LeagueStandings recordResult() {
+        // Re-adds the season's results in turn: totals grow, but the table keeps a realistic shape
+        LeagueStandings standings = league.getStandings();
+        standings.record(league.getMatches().get(next++ % league.getMatches().size()));
+        return standings;
+    }
+
+    @Benchmark
+    public LeagueStandings rebuildTable() {
+        return LeagueStandings.rebuild(league.getTeams(), league.getMatches());
+    }
+}
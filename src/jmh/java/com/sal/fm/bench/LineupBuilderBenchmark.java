@@ -0,0 +1,35 @@
+package com.sal.fm.bench;
+
+import com.sal.fm.builder.LineupBuilder;
+import com.sal.fm.model.team.Team;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lineup selection cost as the roster grows.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LineupBuilderBenchmark {
+
+    @Param({"12", "24", "48"})
+    public int rosterSize;
+
+    private Team team;
+
+    @Setup
+    public void setup() {
+        team = BenchmarkFixtures.teams(1, rosterSize).get(0);
+    }
+
+    @Benchmark
+    public Team generateLineup() {
+        LineupBuilder.generateLineup(team);
+        return team;
+    }
+}
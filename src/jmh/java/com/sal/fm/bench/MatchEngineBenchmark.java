@@ -0,0 +1,61 @@
+package com.sal.fm.bench;
+
+import com.sal.fm.config.MatchConfig;
+import com.sal.fm.engine.MatchContext;
+import com.sal.fm.engine.MatchEngine;
+import com.sal.fm.model.MatchSummary;
+import com.sal.fm.model.team.Team;
+import com.sal.fm.util.Dice;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the minute loop and of a whole headless match (kick-off compilation included).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatchEngineBenchmark {
+
+    @Param({"12", "24"})
+    public int rosterSize;
+
+    private Team home;
+    private Team away;
+    private MatchEngine engine;
+    private int minute;
+
+    @Setup(Level.Trial)
+    public void setupTeams() {
+        List<Team> teams = BenchmarkFixtures.teams(2, rosterSize);
+        home = teams.get(0);
+        away = teams.get(1);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupEngine() {
+        engine = new MatchEngine(home, away, new MatchSummary(), MatchContext.headless(new Dice(BenchmarkFixtures.SEED)));
+        minute = 0;
+    }
+
+    @Benchmark
+    public int simulateMinute() {
+        engine.simulateMinute(minute++ % (2 * MatchConfig.MINUTES_PER_HALF), true);
+        return engine.getHomeGoals();
+    }
+
+    @Benchmark
+    public int simulateHeadlessMatch() {
+        MatchEngine match = new MatchEngine(home, away, new MatchSummary(),
+                MatchContext.headless(Dice.forStream(BenchmarkFixtures.SEED, minute++)));
+        for (int m = 0; m < 2 * MatchConfig.MINUTES_PER_HALF; m++) {
+            match.simulateMinute(m, true);
+        }
+        return match.getHomeGoals() - match.getAwayGoals();
+    }
+}
@@ -0,0 +1,55 @@
+package com.sal.fm.bench;
+
+import com.sal.fm.model.GameState;
+import com.sal.fm.util.JsonUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing a full save file, by league and roster size.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SaveBenchmark {
+
+    @Param({"12", "20"})
+    public int leagueSize;
+
+    @Param({"12", "24"})
+    public int rosterSize;
+
+    private GameState state;
+    private File file;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setup() throws IOException {
+        state = new GameState(BenchmarkFixtures.league(leagueSize, rosterSize, true), 1, 1);
+        file = File.createTempFile("fm-bench-save", ".json");
+
+        // JsonUtil reports every save on stdout
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+        file.delete();
+    }
+
+    @Benchmark
+    public long saveToFile() {
+        JsonUtil.saveToFile(file.getPath(), state);
+        return file.length();
+    }
+}
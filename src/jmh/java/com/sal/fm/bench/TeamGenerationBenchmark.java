@@ -0,0 +1,31 @@
+package com.sal.fm.bench;
+
+import com.sal.fm.builder.GenerationReport;
+import com.sal.fm.builder.TeamGenerator;
+import com.sal.fm.model.Universe;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk team generation (rosters, attributes and lineups) by number of workers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TeamGenerationBenchmark {
+
+    @Param({"10000"})
+    public int teamCount;
+
+    @Param({"1", "0"})
+    public int threads;
+
+    @Benchmark
+    public GenerationReport generateTeams() {
+        return TeamGenerator.generateTeamsBulk(teamCount, BenchmarkFixtures.SEED, new Universe(), threads);
+    }
+}
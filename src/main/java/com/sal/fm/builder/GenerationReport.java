@@ -0,0 +1,56 @@
+package com.sal.fm.builder;
+
+import com.sal.fm.model.team.Team;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk generation run ({@link TeamGenerator#generateTeamsBulk}): the teams in
+ * index order, how many workers built them and how long it took.
+ */
+public class GenerationReport {
+
+    private final List<Team> teams;
+    private final int playerCount;
+    private final int threads;
+    private final long wallNanos;
+
+    GenerationReport(List<Team> teams, int playerCount, int threads, long wallNanos) {
+        this.teams = teams;
+        this.playerCount = playerCount;
+        this.threads = threads;
+        this.wallNanos = wallNanos;
+    }
+
+    /**
+     * @return generated teams, team i at index i (unmodifiable)
+     */
+    public List<Team> getTeams() {
+        return teams;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * @return number of workers the teams were split between
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return wall-clock time of the whole run, lineups included
+     */
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * @return generation throughput in players per second
+     */
+    public double getPlayersPerSecond() {
+        return wallNanos == 0 ? 0 : playerCount * 1e9 / wallNanos;
+    }
+}
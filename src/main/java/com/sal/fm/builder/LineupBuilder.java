@@ -34,25 +34,25 @@ public class LineupBuilder {
         List<Player> wingers = filterAndSort(allPlayers, Position.WINGER);
         List<Player> pivots = filterAndSort(allPlayers, Position.PIVOT);
 
-        Set<String> selectedIds = new HashSet<>();
+        Selection selected = new Selection(allPlayers);
 
         // Always pick the top-rated goalkeeper
         Player gk = extractTop(gks);
         startingLineup.add(gk);
-        selectedIds.add(gk.getId());
+        selected.add(gk);
 
         // Build rest of the lineup based on tactic
         List<Player> rolePlayers = switch (tactic) {
-            case DIAMOND -> buildDiamondLineup(fixos, wingers, pivots, selectedIds);
-            case SQUARE -> buildSquareLineup(fixos, wingers, pivots, selectedIds);
+            case DIAMOND -> buildDiamondLineup(fixos, wingers, pivots, selected);
+            case SQUARE -> buildSquareLineup(fixos, wingers, pivots, selected);
         };
 
         startingLineup.addAll(rolePlayers);
-        selectedIds.addAll(rolePlayers.stream().map(Player::getId).toList());
+        rolePlayers.forEach(selected::add);
 
         // Remaining players become substitutes
         substitutes = allPlayers.stream()
-                .filter(p -> !selectedIds.contains(p.getId()))
+                .filter(p -> !selected.contains(p))
                 .collect(Collectors.toList());
 
         team.setStartingLineup(startingLineup);
@@ -63,21 +63,21 @@ public class LineupBuilder {
      * Builds a DIAMOND formation lineup.
      * Picks 1 FIXO, 2 WINGERS (or similar), and 1 PIVOT (or similar).
      */
-    private static List<Player> buildDiamondLineup(List<Player> fixos, List<Player> wingers, List<Player> pivots, Set<String> selectedIds) {
+    private static List<Player> buildDiamondLineup(List<Player> fixos, List<Player> wingers, List<Player> pivots, Selection selected) {
         List<Player> lineup = new ArrayList<>();
 
         Player fixo = fixos.stream()
-                .filter(p -> !selectedIds.contains(p.getId()))
+                .filter(p -> !selected.contains(p))
                 .findFirst()
                 .orElseThrow(() -> new IllegalStateException("No FIXO available"));
 
         lineup.add(fixo);
-        selectedIds.add(fixo.getId());
+        selected.add(fixo);
 
         // Candidates for wings can be WINGERS or PIVOTS
         List<Player> wingCandidates = new ArrayList<>();
-        wingers.stream().filter(p -> !selectedIds.contains(p.getId())).forEach(wingCandidates::add);
-        pivots.stream().filter(p -> !selectedIds.contains(p.getId())).forEach(wingCandidates::add);
+        wingers.stream().filter(p -> !selected.contains(p)).forEach(wingCandidates::add);
+        pivots.stream().filter(p -> !selected.contains(p)).forEach(wingCandidates::add);
 
         wingCandidates.sort(Comparator.comparingInt((Player p) -> p.getOverallRating(p.getPosition())).reversed());
 
@@ -87,26 +87,27 @@ public class LineupBuilder {
         // Enforce at least one WINGER on the wing
         if (!(w1.getPosition() == Position.WINGER || w2.getPosition() == Position.WINGER)) {
             List<Player> availableWingers = wingers.stream()
-                    .filter(p -> !selectedIds.contains(p.getId()))
+                    .filter(p -> !selected.contains(p))
                     .sorted(Comparator.comparingInt((Player p) -> p.getOverallRating(p.getPosition())).reversed())
                     .toList();
 
             w1 = availableWingers.get(0);
-            final String w1Id = w1.getId();
+            final long w1Id = w1.getId();
             w2 = wingCandidates.stream()
-                    .filter(p -> !p.getId().equals(w1Id))
+                    .filter(p -> p.getId() != w1Id)
                     .findFirst()
                     .orElseThrow(() -> new IllegalStateException("Not enough candidates for winger roles."));
         }
 
         lineup.add(w1);
         lineup.add(w2);
-        selectedIds.addAll(List.of(w1.getId(), w2.getId()));
+        selected.add(w1);
+        selected.add(w2);
 
         // Choose one player for pivot role
         List<Player> pivotCandidates = new ArrayList<>();
-        pivots.stream().filter(p -> !selectedIds.contains(p.getId())).forEach(pivotCandidates::add);
-        wingers.stream().filter(p -> !selectedIds.contains(p.getId())).forEach(pivotCandidates::add);
+        pivots.stream().filter(p -> !selected.contains(p)).forEach(pivotCandidates::add);
+        wingers.stream().filter(p -> !selected.contains(p)).forEach(pivotCandidates::add);
 
         pivotCandidates.sort(Comparator.comparingInt((Player p) -> p.getOverallRating(p.getPosition())).reversed());
 
@@ -116,7 +117,7 @@ public class LineupBuilder {
 
         Player pivot = pivotCandidates.get(0);
         lineup.add(pivot);
-        selectedIds.add(pivot.getId());
+        selected.add(pivot);
 
         return lineup;
     }
@@ -126,13 +127,13 @@ public class LineupBuilder {
      * Picks 2 backs (FIXO or PIVOT), 2 fronts (WINGER or PIVOT).
      * Ensures at least one WINGER is present in the front.
      */
-    private static List<Player> buildSquareLineup(List<Player> fixos, List<Player> wingers, List<Player> pivots, Set<String> selectedIds) {
+    private static List<Player> buildSquareLineup(List<Player> fixos, List<Player> wingers, List<Player> pivots, Selection selected) {
         List<Player> lineup = new ArrayList<>();
 
         // Back candidates: FIXO or PIVOT
         List<Player> backCandidates = new ArrayList<>();
-        fixos.stream().filter(p -> !selectedIds.contains(p.getId())).forEach(backCandidates::add);
-        pivots.stream().filter(p -> !selectedIds.contains(p.getId())).forEach(backCandidates::add);
+        fixos.stream().filter(p -> !selected.contains(p)).forEach(backCandidates::add);
+        pivots.stream().filter(p -> !selected.contains(p)).forEach(backCandidates::add);
 
         backCandidates.sort(Comparator.comparingInt((Player p) -> p.getOverallRating(p.getPosition())).reversed());
 
@@ -140,12 +141,13 @@ public class LineupBuilder {
         Player b2 = backCandidates.get(1);
 
         lineup.addAll(List.of(b1, b2));
-        selectedIds.addAll(List.of(b1.getId(), b2.getId()));
+        selected.add(b1);
+        selected.add(b2);
 
         // Front candidates: WINGER or PIVOT
         List<Player> frontCandidates = new ArrayList<>();
-        wingers.stream().filter(p -> !selectedIds.contains(p.getId())).forEach(frontCandidates::add);
-        pivots.stream().filter(p -> !selectedIds.contains(p.getId())).forEach(frontCandidates::add);
+        wingers.stream().filter(p -> !selected.contains(p)).forEach(frontCandidates::add);
+        pivots.stream().filter(p -> !selected.contains(p)).forEach(frontCandidates::add);
 
         frontCandidates.sort(Comparator.comparingInt((Player p) -> p.getOverallRating(p.getPosition())).reversed());
 
@@ -155,7 +157,7 @@ public class LineupBuilder {
         // Ensure at least one WINGER
         if (!(f1.getPosition() == Position.WINGER || f2.getPosition() == Position.WINGER)) {
             List<Player> availableWingers = wingers.stream()
-                    .filter(p -> !selectedIds.contains(p.getId()))
+                    .filter(p -> !selected.contains(p))
                     .sorted(Comparator.comparingInt((Player p) -> p.getOverallRating(p.getPosition())).reversed())
                     .toList();
 
@@ -172,7 +174,8 @@ public class LineupBuilder {
         }
 
         lineup.addAll(List.of(f1, f2));
-        selectedIds.addAll(List.of(f1.getId(), f2.getId()));
+        selected.add(f1);
+        selected.add(f2);
 
         return lineup;
     }
@@ -203,9 +206,9 @@ public class LineupBuilder {
         if (players.size() < 5)
             throw new IllegalArgumentException("A team must have at least 5 players.");
 
-        Set<String> uniqueIds = new HashSet<>();
+        Selection unique = new Selection(players);
         for (Player p : players) {
-            if (!uniqueIds.add(p.getId())) {
+            if (!unique.add(p)) {
                 throw new IllegalArgumentException("Duplicate player detected: " + p.getName());
             }
         }
@@ -224,4 +227,44 @@ public class LineupBuilder {
             System.out.println("[Warning] Unbalanced squad: consider adding more PIVOTS or WINGERS.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Set of roster players, kept as a bitset over the roster's id range. Player ids are dense
+     * and a generated roster takes consecutive ids, so the set is a word or two.
+     */
+    private static final class Selection {
+        private final long base;
+        private final BitSet members;
+
+        Selection(List<Player> roster) {
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (Player p : roster) {
+                min = Math.min(min, p.getId());
+                max = Math.max(max, p.getId());
+            }
+            this.base = roster.isEmpty() ? 0 : min;
+            this.members = new BitSet(roster.isEmpty() ? 0 : Math.toIntExact(max - min + 1));
+        }
+
+        boolean contains(Player p) {
+            return members.get(bit(p));
+        }
+
+        /**
+         * @return false if the player was already in the set
+         */
+        boolean add(Player p) {
+            int bit = bit(p);
+            if (members.get(bit)) {
+                return false;
+            }
+            members.set(bit);
+            return true;
+        }
+
+        private int bit(Player p) {
+            return Math.toIntExact(p.getId() - base);
+        }
+    }
+}
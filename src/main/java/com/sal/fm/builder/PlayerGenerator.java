@@ -1,8 +1,9 @@
 package com.sal.fm.builder;
 
 import com.sal.fm.enums.Position;
+import com.sal.fm.model.Universe;
 import com.sal.fm.model.player.*;
-import com.sal.fm.util.DiceUtil;
+import com.sal.fm.util.Dice;
 
 import java.io.BufferedReader;
 import java.io.InputStream;
@@ -13,6 +14,7 @@ import java.util.List;
 /**
  * Responsible for generating random players with realistic attributes based on their position.
  * Utilizes external name files and random dice rolls to simulate real player diversity.
+ * All randomness comes from the caller's {@link Dice}, so a seeded stream always yields the same players.
  */
 public class PlayerGenerator {
 
@@ -48,42 +50,58 @@ public class PlayerGenerator {
 
     /**
      * Generates a single player for a given position with randomized stats and name.
+     * The player gets the universe's next player id and its attributes are written straight
+     * into the universe's attribute store.
      */
-    public static Player generatePlayer(Position position) {
-        String name = DiceUtil.pickRandom(firstNames) + " " + DiceUtil.pickRandom(lastNames);
-        int age = DiceUtil.roll(18, 35);
-        PlayerStats stats = generateStats(position);
+    public static Player generatePlayer(Position position, Dice dice, Universe universe) {
+        PlayerAttributeStore store = universe.getAttributeStore();
+        return generatePlayer(position, dice, universe.nextPlayerId(), store, store.reserve(1));
+    }
+
+    /**
+     * Generates a single player into an id and store row reserved beforehand. Used by bulk
+     * generation, where each worker fills its own block of ids and rows; the draws from
+     * {@code dice} are the same as for {@link #generatePlayer(Position, Dice, Universe)}.
+     *
+     * @param id    the player's id
+     * @param store store the attributes are written to
+     * @param row   reserved row of the store (see {@link PlayerAttributeStore#reserve})
+     */
+    public static Player generatePlayer(Position position, Dice dice, long id, PlayerAttributeStore store, int row) {
+        String name = dice.pickRandom(firstNames) + " " + dice.pickRandom(lastNames);
+        int age = dice.roll(18, 35);
+        store.put(row, generateStats(position, dice));
 
-        return new Player(name, age, position, stats);
+        return new Player(id, name, age, position, store, row);
     }
 
     /**
      * Generates a full squad of 12 players with a reasonable positional distribution.
      */
-    public static List<Player> generateTeamPlayers() {
+    public static List<Player> generateTeamPlayers(Dice dice, Universe universe) {
         List<Player> players = new ArrayList<>();
 
         // 2 Goalkeepers
-        players.add(generatePlayer(Position.GOALKEEPER));
-        players.add(generatePlayer(Position.GOALKEEPER));
+        players.add(generatePlayer(Position.GOALKEEPER, dice, universe));
+        players.add(generatePlayer(Position.GOALKEEPER, dice, universe));
 
         // 2 Fixos
-        players.add(generatePlayer(Position.FIXO));
-        players.add(generatePlayer(Position.FIXO));
+        players.add(generatePlayer(Position.FIXO, dice, universe));
+        players.add(generatePlayer(Position.FIXO, dice, universe));
 
         // 2 Pivots
-        players.add(generatePlayer(Position.PIVOT));
-        players.add(generatePlayer(Position.PIVOT));
+        players.add(generatePlayer(Position.PIVOT, dice, universe));
+        players.add(generatePlayer(Position.PIVOT, dice, universe));
 
         // 2 Wingers
-        players.add(generatePlayer(Position.WINGER));
-        players.add(generatePlayer(Position.WINGER));
+        players.add(generatePlayer(Position.WINGER, dice, universe));
+        players.add(generatePlayer(Position.WINGER, dice, universe));
 
         // 4 more random field players
         Position[] fieldPositions = {Position.FIXO, Position.PIVOT, Position.WINGER};
         for (int i = 0; i < 4; i++) {
-            Position randomPos = DiceUtil.pickRandom(List.of(fieldPositions));
-            players.add(generatePlayer(randomPos));
+            Position randomPos = dice.pickRandom(List.of(fieldPositions));
+            players.add(generatePlayer(randomPos, dice, universe));
         }
 
         return players;
@@ -92,181 +110,181 @@ public class PlayerGenerator {
     /**
      * Generates appropriate stats for a given position using dedicated stat profiles.
      */
-    public static PlayerStats generateStats(Position position) {
+    public static PlayerStats generateStats(Position position, Dice dice) {
         return switch (position) {
-            case GOALKEEPER -> generateGoalkeeperStats();
-            case FIXO -> generateFixoStats();
-            case WINGER -> generateWingerStats();
-            case PIVOT -> generatePivotStats();
+            case GOALKEEPER -> generateGoalkeeperStats(dice);
+            case FIXO -> generateFixoStats(dice);
+            case WINGER -> generateWingerStats(dice);
+            case PIVOT -> generatePivotStats(dice);
         };
     }
 
     // === POSITIONAL PROFILES ===
 
-    private static PlayerStats generateFixoStats() {
+    private static PlayerStats generateFixoStats(Dice dice) {
         return new PlayerStats(
-                generateDefensiveTechnicals(),
-                generateStrongPhysicals(),
-                generateBalancedMentals(),
-                generateHiddenAttributes(),
-                generateBasicGKAttributes()
+                generateDefensiveTechnicals(dice),
+                generateStrongPhysicals(dice),
+                generateBalancedMentals(dice),
+                generateHiddenAttributes(dice),
+                generateBasicGKAttributes(dice)
         );
     }
 
-    private static PlayerStats generateWingerStats() {
+    private static PlayerStats generateWingerStats(Dice dice) {
         return new PlayerStats(
-                generateWingerTechnicals(),
-                generateFastPhysicals(),
-                generateCreativeMentals(),
-                generateHiddenAttributes(),
-                generateBasicGKAttributes()
+                generateWingerTechnicals(dice),
+                generateFastPhysicals(dice),
+                generateCreativeMentals(dice),
+                generateHiddenAttributes(dice),
+                generateBasicGKAttributes(dice)
         );
     }
 
-    private static PlayerStats generatePivotStats() {
+    private static PlayerStats generatePivotStats(Dice dice) {
         return new PlayerStats(
-                generateAttackerTechnicals(),
-                generatePowerfulPhysicals(),
-                generateAggressiveMentals(),
-                generateHiddenAttributes(),
-                generateBasicGKAttributes()
+                generateAttackerTechnicals(dice),
+                generatePowerfulPhysicals(dice),
+                generateAggressiveMentals(dice),
+                generateHiddenAttributes(dice),
+                generateBasicGKAttributes(dice)
         );
     }
 
-    private static PlayerStats generateGoalkeeperStats() {
+    private static PlayerStats generateGoalkeeperStats(Dice dice) {
         return new PlayerStats(
-                generateMinimalTechnicals(),
-                generateGKPhysicals(),
-                generateBalancedMentals(),
-                generateHiddenAttributes(),
-                generateGoalkeepingSkills()
+                generateMinimalTechnicals(dice),
+                generateGKPhysicals(dice),
+                generateBalancedMentals(dice),
+                generateHiddenAttributes(dice),
+                generateGoalkeepingSkills(dice)
         );
     }
 
     // === TECHNICAL ATTRIBUTES ===
 
-    private static TechnicalAttributes generateDefensiveTechnicals() {
+    private static TechnicalAttributes generateDefensiveTechnicals(Dice dice) {
         return new TechnicalAttributes(
-                DiceUtil.roll(1, 10),  // corners
-                DiceUtil.roll(1, 10),  // penalty
-                DiceUtil.roll(40, 60), // free kick
-                DiceUtil.roll(30, 50), // shooting
-                DiceUtil.roll(20, 40), // long shots
-                DiceUtil.roll(50, 70), // heading
-                DiceUtil.roll(50, 70), // passing
-                DiceUtil.roll(30, 50), // dribbling
-                DiceUtil.roll(60, 85), // tackling
-                DiceUtil.roll(50, 75)  // technique
+                dice.roll(1, 10),  // corners
+                dice.roll(1, 10),  // penalty
+                dice.roll(40, 60), // free kick
+                dice.roll(30, 50), // shooting
+                dice.roll(20, 40), // long shots
+                dice.roll(50, 70), // heading
+                dice.roll(50, 70), // passing
+                dice.roll(30, 50), // dribbling
+                dice.roll(60, 85), // tackling
+                dice.roll(50, 75)  // technique
         );
     }
 
-    private static TechnicalAttributes generateWingerTechnicals() {
+    private static TechnicalAttributes generateWingerTechnicals(Dice dice) {
         return new TechnicalAttributes(
-                DiceUtil.roll(30, 70), DiceUtil.roll(50, 80), DiceUtil.roll(40, 80),
-                DiceUtil.roll(60, 85), DiceUtil.roll(65, 90), DiceUtil.roll(40, 65),
-                DiceUtil.roll(60, 85), DiceUtil.roll(75, 95), DiceUtil.roll(30, 50), DiceUtil.roll(70, 95)
+                dice.roll(30, 70), dice.roll(50, 80), dice.roll(40, 80),
+                dice.roll(60, 85), dice.roll(65, 90), dice.roll(40, 65),
+                dice.roll(60, 85), dice.roll(75, 95), dice.roll(30, 50), dice.roll(70, 95)
         );
     }
 
-    private static TechnicalAttributes generateAttackerTechnicals() {
+    private static TechnicalAttributes generateAttackerTechnicals(Dice dice) {
         return new TechnicalAttributes(
-                DiceUtil.roll(20, 40), DiceUtil.roll(60, 85), DiceUtil.roll(40, 70),
-                DiceUtil.roll(70, 90), DiceUtil.roll(55, 80), DiceUtil.roll(65, 85),
-                DiceUtil.roll(60, 80), DiceUtil.roll(60, 75), DiceUtil.roll(40, 60), DiceUtil.roll(60, 85)
+                dice.roll(20, 40), dice.roll(60, 85), dice.roll(40, 70),
+                dice.roll(70, 90), dice.roll(55, 80), dice.roll(65, 85),
+                dice.roll(60, 80), dice.roll(60, 75), dice.roll(40, 60), dice.roll(60, 85)
         );
     }
 
-    private static TechnicalAttributes generateMinimalTechnicals() {
+    private static TechnicalAttributes generateMinimalTechnicals(Dice dice) {
         return new TechnicalAttributes(
-                1, 1, DiceUtil.roll(10, 30), DiceUtil.roll(10, 30), DiceUtil.roll(10, 30),
-                DiceUtil.roll(10, 30), DiceUtil.roll(30, 50), DiceUtil.roll(20, 40), DiceUtil.roll(20, 40), DiceUtil.roll(20, 40)
+                1, 1, dice.roll(10, 30), dice.roll(10, 30), dice.roll(10, 30),
+                dice.roll(10, 30), dice.roll(30, 50), dice.roll(20, 40), dice.roll(20, 40), dice.roll(20, 40)
         );
     }
 
     // === PHYSICAL ATTRIBUTES ===
 
-    private static PhysicalAttributes generateStrongPhysicals() {
+    private static PhysicalAttributes generateStrongPhysicals(Dice dice) {
         return new PhysicalAttributes(
-                DiceUtil.roll(30, 60), DiceUtil.roll(30, 60), DiceUtil.roll(60, 90),
-                DiceUtil.roll(70, 95), DiceUtil.roll(50, 80), DiceUtil.roll(60, 85),
-                DiceUtil.roll(40, 60), DiceUtil.roll(60, 90)
+                dice.roll(30, 60), dice.roll(30, 60), dice.roll(60, 90),
+                dice.roll(70, 95), dice.roll(50, 80), dice.roll(60, 85),
+                dice.roll(40, 60), dice.roll(60, 90)
         );
     }
 
-    private static PhysicalAttributes generateFastPhysicals() {
+    private static PhysicalAttributes generateFastPhysicals(Dice dice) {
         return new PhysicalAttributes(
-                DiceUtil.roll(80, 100), DiceUtil.roll(80, 100), DiceUtil.roll(60, 80),
-                DiceUtil.roll(40, 60), DiceUtil.roll(60, 80), DiceUtil.roll(60, 85),
-                DiceUtil.roll(75, 100), DiceUtil.roll(60, 85)
+                dice.roll(80, 100), dice.roll(80, 100), dice.roll(60, 80),
+                dice.roll(40, 60), dice.roll(60, 80), dice.roll(60, 85),
+                dice.roll(75, 100), dice.roll(60, 85)
         );
     }
 
-    private static PhysicalAttributes generatePowerfulPhysicals() {
+    private static PhysicalAttributes generatePowerfulPhysicals(Dice dice) {
         return new PhysicalAttributes(
-                DiceUtil.roll(50, 75), DiceUtil.roll(50, 70), DiceUtil.roll(70, 95),
-                DiceUtil.roll(80, 100), DiceUtil.roll(50, 80), DiceUtil.roll(60, 85),
-                DiceUtil.roll(40, 70), DiceUtil.roll(70, 90)
+                dice.roll(50, 75), dice.roll(50, 70), dice.roll(70, 95),
+                dice.roll(80, 100), dice.roll(50, 80), dice.roll(60, 85),
+                dice.roll(40, 70), dice.roll(70, 90)
         );
     }
 
-    private static PhysicalAttributes generateGKPhysicals() {
+    private static PhysicalAttributes generateGKPhysicals(Dice dice) {
         return new PhysicalAttributes(
-                DiceUtil.roll(50, 70), DiceUtil.roll(50, 70), DiceUtil.roll(60, 80),
-                DiceUtil.roll(50, 75), DiceUtil.roll(50, 70), DiceUtil.roll(65, 85),
-                DiceUtil.roll(50, 75), DiceUtil.roll(65, 85)
+                dice.roll(50, 70), dice.roll(50, 70), dice.roll(60, 80),
+                dice.roll(50, 75), dice.roll(50, 70), dice.roll(65, 85),
+                dice.roll(50, 75), dice.roll(65, 85)
         );
     }
 
     // === MENTAL ATTRIBUTES ===
 
-    private static MentalAttributes generateBalancedMentals() {
+    private static MentalAttributes generateBalancedMentals(Dice dice) {
         return new MentalAttributes(
-                DiceUtil.roll(50, 80), DiceUtil.roll(50, 80), DiceUtil.roll(50, 80),
-                DiceUtil.roll(50, 80), DiceUtil.roll(50, 80), DiceUtil.roll(50, 80),
-                DiceUtil.roll(50, 80), DiceUtil.roll(50, 80), DiceUtil.roll(50, 80), DiceUtil.roll(50, 80)
+                dice.roll(50, 80), dice.roll(50, 80), dice.roll(50, 80),
+                dice.roll(50, 80), dice.roll(50, 80), dice.roll(50, 80),
+                dice.roll(50, 80), dice.roll(50, 80), dice.roll(50, 80), dice.roll(50, 80)
         );
     }
 
-    private static MentalAttributes generateCreativeMentals() {
+    private static MentalAttributes generateCreativeMentals(Dice dice) {
         return new MentalAttributes(
-                DiceUtil.roll(70, 95), DiceUtil.roll(60, 90), DiceUtil.roll(50, 80),
-                DiceUtil.roll(40, 70), DiceUtil.roll(50, 80), DiceUtil.roll(60, 90),
-                DiceUtil.roll(50, 70), DiceUtil.roll(60, 85), DiceUtil.roll(80, 100), DiceUtil.roll(65, 85)
+                dice.roll(70, 95), dice.roll(60, 90), dice.roll(50, 80),
+                dice.roll(40, 70), dice.roll(50, 80), dice.roll(60, 90),
+                dice.roll(50, 70), dice.roll(60, 85), dice.roll(80, 100), dice.roll(65, 85)
         );
     }
 
-    private static MentalAttributes generateAggressiveMentals() {
+    private static MentalAttributes generateAggressiveMentals(Dice dice) {
         return new MentalAttributes(
-                DiceUtil.roll(50, 80), DiceUtil.roll(50, 80), DiceUtil.roll(50, 80),
-                DiceUtil.roll(60, 90), DiceUtil.roll(50, 80), DiceUtil.roll(60, 85),
-                DiceUtil.roll(85, 100), DiceUtil.roll(80, 95), DiceUtil.roll(50, 70), DiceUtil.roll(60, 85)
+                dice.roll(50, 80), dice.roll(50, 80), dice.roll(50, 80),
+                dice.roll(60, 90), dice.roll(50, 80), dice.roll(60, 85),
+                dice.roll(85, 100), dice.roll(80, 95), dice.roll(50, 70), dice.roll(60, 85)
         );
     }
 
     // === HIDDEN ATTRIBUTES ===
 
-    private static HiddenAttributes generateHiddenAttributes() {
+    private static HiddenAttributes generateHiddenAttributes(Dice dice) {
         return new HiddenAttributes(
-                DiceUtil.roll(50, 100), DiceUtil.roll(40, 90), DiceUtil.roll(40, 100),
-                DiceUtil.roll(50, 90), DiceUtil.roll(40, 90), DiceUtil.roll(50, 100)
+                dice.roll(50, 100), dice.roll(40, 90), dice.roll(40, 100),
+                dice.roll(50, 90), dice.roll(40, 90), dice.roll(50, 100)
         );
     }
 
     // === GOALKEEPING ATTRIBUTES ===
 
-    private static GoalkeepingAttributes generateGoalkeepingSkills() {
+    private static GoalkeepingAttributes generateGoalkeepingSkills(Dice dice) {
         return new GoalkeepingAttributes(
-                DiceUtil.roll(60, 90), DiceUtil.roll(60, 90), DiceUtil.roll(60, 90), DiceUtil.roll(60, 90),
-                DiceUtil.roll(60, 90), DiceUtil.roll(60, 90), DiceUtil.roll(60, 90), DiceUtil.roll(60, 90),
-                DiceUtil.roll(60, 90), DiceUtil.roll(60, 90)
+                dice.roll(60, 90), dice.roll(60, 90), dice.roll(60, 90), dice.roll(60, 90),
+                dice.roll(60, 90), dice.roll(60, 90), dice.roll(60, 90), dice.roll(60, 90),
+                dice.roll(60, 90), dice.roll(60, 90)
         );
     }
 
-    private static GoalkeepingAttributes generateBasicGKAttributes() {
+    private static GoalkeepingAttributes generateBasicGKAttributes(Dice dice) {
         return new GoalkeepingAttributes(
-                DiceUtil.roll(20, 60), DiceUtil.roll(1, 20), DiceUtil.roll(10, 40), DiceUtil.roll(1, 30),
-                DiceUtil.roll(20, 50), DiceUtil.roll(1, 10), DiceUtil.roll(20, 50), DiceUtil.roll(1, 30),
-                DiceUtil.roll(1, 30), DiceUtil.roll(1, 20)
+                dice.roll(20, 60), dice.roll(1, 20), dice.roll(10, 40), dice.roll(1, 30),
+                dice.roll(20, 50), dice.roll(1, 10), dice.roll(20, 50), dice.roll(1, 30),
+                dice.roll(1, 30), dice.roll(1, 20)
         );
     }
 }
\ No newline at end of file
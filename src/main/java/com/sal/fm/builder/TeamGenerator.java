@@ -1,15 +1,21 @@
 package com.sal.fm.builder;
 
+import com.sal.fm.config.MatchConfig;
 import com.sal.fm.enums.Position;
 import com.sal.fm.enums.Tactic;
+import com.sal.fm.model.Universe;
+import com.sal.fm.model.player.PlayerAttributeStore;
 import com.sal.fm.model.team.Team;
-import com.sal.fm.util.DiceUtil;
+import com.sal.fm.util.Dice;
 
 import java.io.*;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Responsible for generating a list of teams for a league.
@@ -17,7 +23,20 @@ import java.util.Random;
  */
 public class TeamGenerator {
     private static final List<String> teamNames = new ArrayList<>();
-    private static final Random random = new Random();
+
+    /** Two players per position, in roster order */
+    private static final List<Position> CORE_POSITIONS = List.of(
+            Position.GOALKEEPER, Position.GOALKEEPER,
+            Position.FIXO, Position.FIXO,
+            Position.PIVOT, Position.PIVOT,
+            Position.WINGER, Position.WINGER);
+    private static final List<Position> FIELD_POSITIONS = List.of(Position.FIXO, Position.PIVOT, Position.WINGER);
+
+    /** Players in a generated roster */
+    private static final int ROSTER_SIZE = CORE_POSITIONS.size() + 2;
+
+    /** Teams a bulk generation worker claims at a time */
+    private static final int BULK_CHUNK = 64;
 
     // Load team names from file on class initialization
     static {
@@ -46,47 +65,174 @@ public class TeamGenerator {
     }
 
     /**
-     * Generates 12 teams with distinct names, alternating tactics, and valid lineups.
+     * Generates the teams of a default-sized league ({@link MatchConfig#TEAMS_PER_DIVISION}).
+     * @param dice random stream the rosters are generated from
      * @return list of fully formed teams
      */
-    public static List<Team> generateLeagueTeams() {
-        List<Team> teams = new ArrayList<>();
+    public static List<Team> generateLeagueTeams(Dice dice) {
+        return generateTeams(MatchConfig.TEAMS_PER_DIVISION, dice);
+    }
 
-        if (teamNames.size() < 12) {
-            throw new IllegalStateException("You must have at least 12 team names in teamNames.txt");
+    /**
+     * Generates teams with distinct names, alternating tactics, and valid lineups.
+     * Once the names in teamNames.txt run out they are reused with a number ("Chelsea 2").
+     * Players are numbered in a universe of their own; use
+     * {@link #generateTeams(int, Dice, Universe)} to add teams to a game.
+     *
+     * @param count number of teams to generate
+     * @param dice  random stream the rosters are generated from, in team order
+     * @return list of fully formed teams
+     */
+    public static List<Team> generateTeams(int count, Dice dice) {
+        return generateTeams(count, dice, new Universe());
+    }
+
+    /**
+     * Generates teams like {@link #generateTeams(int, Dice)} for a universe: players take the
+     * universe's ids and their attributes go straight into its store.
+     *
+     * @param count    number of teams to generate
+     * @param dice     random stream the rosters are generated from, in team order
+     * @param universe universe the players will belong to
+     * @return list of fully formed teams
+     */
+    public static List<Team> generateTeams(int count, Dice dice, Universe universe) {
+        checkTeamNames();
+
+        PlayerAttributeStore store = universe.getAttributeStore();
+        List<Team> teams = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long firstId = universe.reservePlayerIds(ROSTER_SIZE);
+            int firstRow = store.reserve(ROSTER_SIZE);
+            teams.add(generateTeam(teamName(i), tactic(i), dice, store, firstId, firstRow));
         }
 
-        for (int i = 0; i < 12; i++) {
-            String name = teamNames.get(i);
-            Tactic tactic = (i % 2 == 0) ? Tactic.DIAMOND : Tactic.SQUARE; // Alternate tactics
+        return teams;
+    }
+
+    /**
+     * Generates teams in parallel with {@link MatchConfig#GENERATION_THREADS} workers.
+     *
+     * @see #generateTeamsBulk(int, long, Universe, int)
+     */
+    public static GenerationReport generateTeamsBulk(int count, long seed, Universe universe) {
+        return generateTeamsBulk(count, seed, universe, MatchConfig.GENERATION_THREADS);
+    }
+
+    /**
+     * Generates teams in parallel, lineups included. Names and tactics follow
+     * {@link #generateTeams(int, Dice)}, but team i draws from its own stream,
+     * {@code Dice.forStream(seed, i)}, and gets ids and store rows from a block reserved up front
+     * ({@value #ROSTER_SIZE} per team, in team order). The teams, players, ids and store layout
+     * are therefore the same for a given seed whatever the number of threads.
+     *
+     * @param count    number of teams to generate
+     * @param seed     seed of the run; team i uses stream i of it
+     * @param universe universe the players will belong to
+     * @param threads  number of workers; 0 means one per CPU core
+     * @return the teams in order, with the run's throughput
+     */
+    public static GenerationReport generateTeamsBulk(int count, long seed, Universe universe, int threads) {
+        checkTeamNames();
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative, got " + count);
+        }
+        long start = System.nanoTime();
+        int workers = Math.max(1, Math.min(count, threads > 0 ? threads : Runtime.getRuntime().availableProcessors()));
+        int playerCount = Math.multiplyExact(count, ROSTER_SIZE);
+        if (count == 0) {
+            return new GenerationReport(List.of(), 0, workers, System.nanoTime() - start);
+        }
 
-            Team team = new Team(name, tactic);
+        PlayerAttributeStore store = universe.getAttributeStore();
+        long firstId = universe.reservePlayerIds(playerCount);
+        int firstRow = store.reserve(playerCount);
+
+        // Workers claim chunks of team indices; every slot of the array is written by one worker only
+        Team[] teams = new Team[count];
+        AtomicInteger nextIndex = new AtomicInteger();
+        Runnable worker = () -> {
+            int from;
+            while ((from = nextIndex.getAndAdd(BULK_CHUNK)) < count) {
+                int to = Math.min(count, from + BULK_CHUNK);
+                for (int i = from; i < to; i++) {
+                    int offset = i * ROSTER_SIZE;
+                    teams[i] = generateTeam(teamName(i), tactic(i), Dice.forStream(seed, i), store,
+                            firstId + offset, firstRow + offset);
+                }
+            }
+        };
+
+        if (workers == 1) {
+            worker.run();
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(workers);
+            try {
+                List<Future<?>> futures = new ArrayList<>(workers);
+                for (int w = 0; w < workers; w++) {
+                    futures.add(executor.submit(worker));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Team generation was interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Team generation failed", e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
 
-            // Add essential players by position
-            team.addPlayer(PlayerGenerator.generatePlayer(Position.GOALKEEPER));
-            team.addPlayer(PlayerGenerator.generatePlayer(Position.GOALKEEPER));
+        return new GenerationReport(List.of(teams), playerCount, workers, System.nanoTime() - start);
+    }
 
-            team.addPlayer(PlayerGenerator.generatePlayer(Position.FIXO));
-            team.addPlayer(PlayerGenerator.generatePlayer(Position.FIXO));
+    private static void checkTeamNames() {
+        if (teamNames.isEmpty()) {
+            throw new IllegalStateException("You must have at least one team name in teamNames.txt");
+        }
+    }
 
-            team.addPlayer(PlayerGenerator.generatePlayer(Position.PIVOT));
-            team.addPlayer(PlayerGenerator.generatePlayer(Position.PIVOT));
+    /**
+     * Name of team i. Once the names in teamNames.txt run out they are reused with a number.
+     */
+    private static String teamName(int i) {
+        String name = teamNames.get(i % teamNames.size());
+        if (i >= teamNames.size()) {
+            name += " " + (i / teamNames.size() + 1);
+        }
+        return name;
+    }
 
-            team.addPlayer(PlayerGenerator.generatePlayer(Position.WINGER));
-            team.addPlayer(PlayerGenerator.generatePlayer(Position.WINGER));
+    private static Tactic tactic(int i) {
+        return (i % 2 == 0) ? Tactic.DIAMOND : Tactic.SQUARE; // Alternate tactics
+    }
 
-            // Add two more random field players (excluding GK)
-            Position[] fieldPositions = {Position.FIXO, Position.PIVOT, Position.WINGER};
-            for (int j = 0; j < 2; j++) {
-                Position randomPos = DiceUtil.pickRandom(Arrays.asList(fieldPositions));
-                team.addPlayer(PlayerGenerator.generatePlayer(randomPos));
-            }
+    /**
+     * Generates one team: two players per position, two extra field players, and a lineup.
+     * Players take ids {@code firstId ..} and rows {@code firstRow ..} of {@code store}, in roster order.
+     */
+    private static Team generateTeam(String name, Tactic tactic, Dice dice, PlayerAttributeStore store,
+                                     long firstId, int firstRow) {
+        Team team = new Team(name, tactic);
+        int slot = 0;
+
+        // Add essential players by position
+        for (Position position : CORE_POSITIONS) {
+            team.addPlayer(PlayerGenerator.generatePlayer(position, dice, firstId + slot, store, firstRow + slot));
+            slot++;
+        }
 
-            // Generate the starting lineup and bench
-            LineupBuilder.generateLineup(team);
-            teams.add(team);
+        // Add two more random field players (excluding GK)
+        for (int j = 0; j < 2; j++) {
+            Position randomPos = dice.pickRandom(FIELD_POSITIONS);
+            team.addPlayer(PlayerGenerator.generatePlayer(randomPos, dice, firstId + slot, store, firstRow + slot));
+            slot++;
         }
 
-        return teams;
+        // Generate the starting lineup and bench
+        LineupBuilder.generateLineup(team);
+        return team;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,337 @@
+package com.sal.fm.config;
+
+import com.sal.fm.enums.Position;
+
+/**
+ * Immutable profile of the tunables the match engine and {@code AttributeCalculator} use.
+ *
+ * {@link #DEFAULT} holds the values of {@link MatchConfig}. Other profiles (e.g. for
+ * balancing experiments) are built with {@link #builder()}, starting from those defaults,
+ * and handed to a match through its {@code MatchContext}, so differently tuned matches
+ * can run side by side in one JVM.
+ *
+ * See {@link MatchConfig} for what each value means.
+ */
+public final class EngineConfig {
+
+    /** Profile with the values of {@link MatchConfig} */
+    public static final EngineConfig DEFAULT = builder().build();
+
+    /** Simulated minutes per half */
+    public final int minutesPerHalf;
+    /** Chance (%) of a shot event while a side has momentum */
+    public final int momentumShotWeight;
+    /** Chance (%) of a passing event during normal play */
+    public final int normalPassWeight;
+    /** Work rate from which a shooter gets the work rate bonus */
+    public final int highWorkrateThreshold;
+    public final double highWorkrateBonus;
+    public final double modifierPivot;
+    public final double modifierWinger;
+    public final double modifierFixo;
+    public final double modifierGoalkeeper;
+    public final double baseShotAccuracy;
+    public final double shootingWeight;
+    public final double skillWeight;
+    public final double baseGoalChance;
+    public final double shotPowerWeight;
+    public final double paceWeight;
+    public final double gkDefenseWeight;
+    public final double pressureBalancePenalty;
+    public final double passingWeight;
+    public final double techniqueWeight;
+    public final double visionWeight;
+    public final double defendingWeight;
+    public final double anticipationWeight;
+    public final double basePassChance;
+    public final double composureWeight;
+    public final double longShotsWeight;
+    public final double balanceWeight;
+    public final double strengthWeight;
+    public final double reflexesWeight;
+    public final double positioningWeight;
+    public final double oneOnOneWeight;
+
+    private EngineConfig(Builder b) {
+        this.minutesPerHalf = b.minutesPerHalf;
+        this.momentumShotWeight = b.momentumShotWeight;
+        this.normalPassWeight = b.normalPassWeight;
+        this.highWorkrateThreshold = b.highWorkrateThreshold;
+        this.highWorkrateBonus = b.highWorkrateBonus;
+        this.modifierPivot = b.modifierPivot;
+        this.modifierWinger = b.modifierWinger;
+        this.modifierFixo = b.modifierFixo;
+        this.modifierGoalkeeper = b.modifierGoalkeeper;
+        this.baseShotAccuracy = b.baseShotAccuracy;
+        this.shootingWeight = b.shootingWeight;
+        this.skillWeight = b.skillWeight;
+        this.baseGoalChance = b.baseGoalChance;
+        this.shotPowerWeight = b.shotPowerWeight;
+        this.paceWeight = b.paceWeight;
+        this.gkDefenseWeight = b.gkDefenseWeight;
+        this.pressureBalancePenalty = b.pressureBalancePenalty;
+        this.passingWeight = b.passingWeight;
+        this.techniqueWeight = b.techniqueWeight;
+        this.visionWeight = b.visionWeight;
+        this.defendingWeight = b.defendingWeight;
+        this.anticipationWeight = b.anticipationWeight;
+        this.basePassChance = b.basePassChance;
+        this.composureWeight = b.composureWeight;
+        this.longShotsWeight = b.longShotsWeight;
+        this.balanceWeight = b.balanceWeight;
+        this.strengthWeight = b.strengthWeight;
+        this.reflexesWeight = b.reflexesWeight;
+        this.positioningWeight = b.positioningWeight;
+        this.oneOnOneWeight = b.oneOnOneWeight;
+    }
+
+    /**
+     * @return a builder initialised with the {@link MatchConfig} values
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return a builder initialised with this profile's values
+     */
+    public Builder toBuilder() {
+        Builder b = new Builder();
+        b.minutesPerHalf = minutesPerHalf;
+        b.momentumShotWeight = momentumShotWeight;
+        b.normalPassWeight = normalPassWeight;
+        b.highWorkrateThreshold = highWorkrateThreshold;
+        b.highWorkrateBonus = highWorkrateBonus;
+        b.modifierPivot = modifierPivot;
+        b.modifierWinger = modifierWinger;
+        b.modifierFixo = modifierFixo;
+        b.modifierGoalkeeper = modifierGoalkeeper;
+        b.baseShotAccuracy = baseShotAccuracy;
+        b.shootingWeight = shootingWeight;
+        b.skillWeight = skillWeight;
+        b.baseGoalChance = baseGoalChance;
+        b.shotPowerWeight = shotPowerWeight;
+        b.paceWeight = paceWeight;
+        b.gkDefenseWeight = gkDefenseWeight;
+        b.pressureBalancePenalty = pressureBalancePenalty;
+        b.passingWeight = passingWeight;
+        b.techniqueWeight = techniqueWeight;
+        b.visionWeight = visionWeight;
+        b.defendingWeight = defendingWeight;
+        b.anticipationWeight = anticipationWeight;
+        b.basePassChance = basePassChance;
+        b.composureWeight = composureWeight;
+        b.longShotsWeight = longShotsWeight;
+        b.balanceWeight = balanceWeight;
+        b.strengthWeight = strengthWeight;
+        b.reflexesWeight = reflexesWeight;
+        b.positioningWeight = positioningWeight;
+        b.oneOnOneWeight = oneOnOneWeight;
+        return b;
+    }
+
+    /**
+     * @return finishing modifier of a shooter in the given position
+     */
+    public double positionModifier(Position position) {
+        return switch (position) {
+            case WINGER -> modifierWinger;
+            case PIVOT -> modifierPivot;
+            case FIXO -> modifierFixo;
+            case GOALKEEPER -> modifierGoalkeeper;
+        };
+    }
+
+    /**
+     * Builds an {@link EngineConfig}; every value defaults to its {@link MatchConfig} constant.
+     */
+    public static final class Builder {
+        private int minutesPerHalf = MatchConfig.MINUTES_PER_HALF;
+        private int momentumShotWeight = MatchConfig.MOMENTUM_SHOT_WEIGHT;
+        private int normalPassWeight = MatchConfig.NORMAL_PASS_WEIGHT;
+        private int highWorkrateThreshold = MatchConfig.HIGH_WORKRATE_THRESHOLD;
+        private double highWorkrateBonus = MatchConfig.HIGH_WORKRATE_BONUS;
+        private double modifierPivot = MatchConfig.MODIFIER_PIVOT;
+        private double modifierWinger = MatchConfig.MODIFIER_WINGER;
+        private double modifierFixo = MatchConfig.MODIFIER_FIXO;
+        private double modifierGoalkeeper = MatchConfig.MODIFIER_GOALKEEPER;
+        private double baseShotAccuracy = MatchConfig.BASE_SHOT_ACCURACY;
+        private double shootingWeight = MatchConfig.SHOOTING_WEIGHT;
+        private double skillWeight = MatchConfig.SKILL_WEIGHT;
+        private double baseGoalChance = MatchConfig.BASE_GOAL_CHANCE;
+        private double shotPowerWeight = MatchConfig.SHOT_POWER_WEIGHT;
+        private double paceWeight = MatchConfig.PACE_WEIGHT;
+        private double gkDefenseWeight = MatchConfig.GK_DEFENSE_WEIGHT;
+        private double pressureBalancePenalty = MatchConfig.PRESSURE_BALANCE_PENALTY;
+        private double passingWeight = MatchConfig.PASSING_WEIGHT;
+        private double techniqueWeight = MatchConfig.TECHNIQUE_WEIGHT;
+        private double visionWeight = MatchConfig.VISION_WEIGHT;
+        private double defendingWeight = MatchConfig.DEFENDING_WEIGHT;
+        private double anticipationWeight = MatchConfig.ANTICIPATION_WEIGHT;
+        private double basePassChance = MatchConfig.BASE_PASS_CHANCE;
+        private double composureWeight = MatchConfig.COMPOSURE_WEIGHT;
+        private double longShotsWeight = MatchConfig.LONG_SHOTS_WEIGHT;
+        private double balanceWeight = MatchConfig.BALANCE_WEIGHT;
+        private double strengthWeight = MatchConfig.STRENGTH_WEIGHT;
+        private double reflexesWeight = MatchConfig.REFLEXES_WEIGHT;
+        private double positioningWeight = MatchConfig.POSITIONING_WEIGHT;
+        private double oneOnOneWeight = MatchConfig.ONE_ON_ONE_WEIGHT;
+
+        private Builder() {
+        }
+
+        public Builder minutesPerHalf(int minutesPerHalf) {
+            this.minutesPerHalf = minutesPerHalf;
+            return this;
+        }
+
+        public Builder momentumShotWeight(int momentumShotWeight) {
+            this.momentumShotWeight = momentumShotWeight;
+            return this;
+        }
+
+        public Builder normalPassWeight(int normalPassWeight) {
+            this.normalPassWeight = normalPassWeight;
+            return this;
+        }
+
+        public Builder highWorkrateThreshold(int highWorkrateThreshold) {
+            this.highWorkrateThreshold = highWorkrateThreshold;
+            return this;
+        }
+
+        public Builder highWorkrateBonus(double highWorkrateBonus) {
+            this.highWorkrateBonus = highWorkrateBonus;
+            return this;
+        }
+
+        public Builder modifierPivot(double modifierPivot) {
+            this.modifierPivot = modifierPivot;
+            return this;
+        }
+
+        public Builder modifierWinger(double modifierWinger) {
+            this.modifierWinger = modifierWinger;
+            return this;
+        }
+
+        public Builder modifierFixo(double modifierFixo) {
+            this.modifierFixo = modifierFixo;
+            return this;
+        }
+
+        public Builder modifierGoalkeeper(double modifierGoalkeeper) {
+            this.modifierGoalkeeper = modifierGoalkeeper;
+            return this;
+        }
+
+        public Builder baseShotAccuracy(double baseShotAccuracy) {
+            this.baseShotAccuracy = baseShotAccuracy;
+            return this;
+        }
+
+        public Builder shootingWeight(double shootingWeight) {
+            this.shootingWeight = shootingWeight;
+            return this;
+        }
+
+        public Builder skillWeight(double skillWeight) {
+            this.skillWeight = skillWeight;
+            return this;
+        }
+
+        public Builder baseGoalChance(double baseGoalChance) {
+            this.baseGoalChance = baseGoalChance;
+            return this;
+        }
+
+        public Builder shotPowerWeight(double shotPowerWeight) {
+            this.shotPowerWeight = shotPowerWeight;
+            return this;
+        }
+
+        public Builder paceWeight(double paceWeight) {
+            this.paceWeight = paceWeight;
+            return this;
+        }
+
+        public Builder gkDefenseWeight(double gkDefenseWeight) {
+            this.gkDefenseWeight = gkDefenseWeight;
+            return this;
+        }
+
+        public Builder pressureBalancePenalty(double pressureBalancePenalty) {
+            this.pressureBalancePenalty = pressureBalancePenalty;
+            return this;
+        }
+
+        public Builder passingWeight(double passingWeight) {
+            this.passingWeight = passingWeight;
+            return this;
+        }
+
+        public Builder techniqueWeight(double techniqueWeight) {
+            this.techniqueWeight = techniqueWeight;
+            return this;
+        }
+
+        public Builder visionWeight(double visionWeight) {
+            this.visionWeight = visionWeight;
+            return this;
+        }
+
+        public Builder defendingWeight(double defendingWeight) {
+            this.defendingWeight = defendingWeight;
+            return this;
+        }
+
+        public Builder anticipationWeight(double anticipationWeight) {
+            this.anticipationWeight = anticipationWeight;
+            return this;
+        }
+
+        public Builder basePassChance(double basePassChance) {
+            this.basePassChance = basePassChance;
+            return this;
+        }
+
+        public Builder composureWeight(double composureWeight) {
+            this.composureWeight = composureWeight;
+            return this;
+        }
+
+        public Builder longShotsWeight(double longShotsWeight) {
+            this.longShotsWeight = longShotsWeight;
+            return this;
+        }
+
+        public Builder balanceWeight(double balanceWeight) {
+            this.balanceWeight = balanceWeight;
+            return this;
+        }
+
+        public Builder strengthWeight(double strengthWeight) {
+            this.strengthWeight = strengthWeight;
+            return this;
+        }
+
+        public Builder reflexesWeight(double reflexesWeight) {
+            this.reflexesWeight = reflexesWeight;
+            return this;
+        }
+
+        public Builder positioningWeight(double positioningWeight) {
+            this.positioningWeight = positioningWeight;
+            return this;
+        }
+
+        public Builder oneOnOneWeight(double oneOnOneWeight) {
+            this.oneOnOneWeight = oneOnOneWeight;
+            return this;
+        }
+
+        public EngineConfig build() {
+            return new EngineConfig(this);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.sal.fm.config;
 
+import com.sal.fm.enums.LogFormat;
+
 /**
  * MatchConfig contains all tunable parameters that affect gameplay mechanics
  * such as match flow, player actions, and duel resolutions.
@@ -11,6 +13,46 @@ public class MatchConfig {
     // == MATCH STRUCTURE ==
     /** Days between each matchday in the simulation */
     public static final int DAYS_BETWEEN_MATCHDAYS = 2;
+    /** Simulated minutes per half (a match is two halves) */
+    public static final int MINUTES_PER_HALF = 20;
+
+    // == LEAGUE ==
+    /** Teams per division in a new game (any size of 2 or more; odd sizes give every team a bye per run) */
+    public static final int TEAMS_PER_DIVISION = 12;
+    /** Divisions per country in a new game, linked by promotion and relegation */
+    public static final int DIVISION_COUNT = 1;
+    /** Countries in a new game; every country's leagues play on the same calendar */
+    public static final int COUNTRY_COUNT = 1;
+    /** Whether every league writes match logs, or only the home country's (others run headless) */
+    public static final boolean LOG_ALL_LEAGUES = false;
+    /** Number of bottom table positions that count as relegation (and top positions of the division below promoted) */
+    public static final int RELEGATION_SPOTS = 2;
+    /** Seasons simulated by the Monte Carlo season forecast */
+    public static final int FORECAST_ITERATIONS = 2000;
+
+    // == LOGGING ==
+    /** Whether league matches write log files; when false they run headless and are inspected via replay */
+    public static final boolean PERSIST_MATCH_LOGS = true;
+    /** Format of match log files: readable text, or a compact binary event stream decoded with MatchEventStream */
+    public static final LogFormat LOG_FORMAT = LogFormat.TEXT;
+    /** Whether league matchdays append all match logs to one indexed segment file instead of files per match */
+    public static final boolean SEGMENTED_MATCH_LOGS = true;
+    /** Whether a matchday's log segment is gzipped once the matchday is over */
+    public static final boolean COMPRESS_LOG_SEGMENTS = false;
+    /** Records the background log writer can hold before producers block (or drop) */
+    public static final int LOG_QUEUE_CAPACITY = 16_384;
+    /** Maximum records the log writer drains and writes in one batch */
+    public static final int LOG_BATCH_SIZE = 1_024;
+    /** Maximum time (ms) written log lines stay unflushed while the queue is busy */
+    public static final long LOG_FLUSH_INTERVAL_MS = 250;
+    /** Whether log lines are dropped instead of blocking the simulation when the queue is full */
+    public static final boolean LOG_DROP_WHEN_FULL = false;
+
+    // == SIMULATION ==
+    /** Maximum matches the simulation service plays at once; 0 means one per CPU core */
+    public static final int SIMULATION_MAX_IN_FLIGHT = 0;
+    /** Workers generating teams for a new game; 0 means one per CPU core */
+    public static final int GENERATION_THREADS = 0;
 
     // == EVENT WEIGHTS ==
     /** Weight chance for shooting events during momentum */
@@ -35,12 +77,12 @@ public class MatchConfig {
     public static final double MODIFIER_FIXO = 0.80;
     public static final double MODIFIER_GOALKEEPER = 0.65;
 
-    // == SHOT ACCURACY (isShotOnTarget) ==
+    // == SHOT ACCURACY (calculateShootingAccuracy) ==
     public static final double BASE_SHOT_ACCURACY = 25.0;
     public static final double SHOOTING_WEIGHT = 0.6;
     public static final double SKILL_WEIGHT = 0.25;
 
-    // == GOAL CONVERSION (isGoal) ==
+    // == GOAL CONVERSION (calculateShotSuccessChance) ==
     public static final double BASE_GOAL_CHANCE = 0.10;
     public static final double SHOT_POWER_WEIGHT = 0.7;
     public static final double PACE_WEIGHT = 0.3;
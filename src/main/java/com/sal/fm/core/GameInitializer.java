@@ -1,10 +1,17 @@
 package com.sal.fm.core;
 
+import com.sal.fm.builder.GenerationReport;
 import com.sal.fm.builder.TeamGenerator;
+import com.sal.fm.config.MatchConfig;
 import com.sal.fm.model.GameState;
+import com.sal.fm.model.Universe;
 import com.sal.fm.model.league.League;
+import com.sal.fm.model.player.HeapAttributeStore;
+import com.sal.fm.model.player.PlayerAttributeStore;
 import com.sal.fm.model.team.Team;
+import com.sal.fm.util.Dice;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -13,19 +20,100 @@ import java.util.List;
  */
 public class GameInitializer {
 
+    // Sub-streams of the game seed. The game seed itself seeds nothing, so these ids can't collide
+    // with the streams a league draws from its own seed (fixtures 0 and up, next season -1)
+
+    /** Sub-stream of the game seed the league seeds come from: league i is seeded with its stream i */
+    private static final long LEAGUE_STREAM = 0;
+    /** Sub-stream of the game seed the rosters are generated from */
+    private static final long GENERATION_STREAM = 1;
+
     /**
-     * Creates a new GameState instance with 12 generated teams and a league.
+     * Creates a new GameState instance with a generated universe
+     * ({@link MatchConfig#COUNTRY_COUNT} countries of {@link MatchConfig#DIVISION_COUNT} divisions
+     * of {@link MatchConfig#TEAMS_PER_DIVISION} teams).
      *
      * @return the initialized GameState with matchday = 1 and day = 1
      */
     public static GameState initializeNewGame() {
-        // Generate league teams with default tactics and rosters
-        List<Team> teams = TeamGenerator.generateLeagueTeams();
+        return initializeNewGame(Dice.newSeed());
+    }
+
+    /**
+     * Creates a new GameState whose teams and matches are fully determined by the given seed.
+     *
+     * @param seed the game seed; league and generation seeds are derived from its sub-streams
+     * @return the initialized GameState with matchday = 1 and day = 1
+     */
+    public static GameState initializeNewGame(long seed) {
+        return initializeNewGame(seed, MatchConfig.COUNTRY_COUNT, MatchConfig.DIVISION_COUNT,
+                MatchConfig.TEAMS_PER_DIVISION);
+    }
+
+    /**
+     * Creates a new GameState with a single country of the given size.
+     *
+     * @see #initializeNewGame(long, int, int, int)
+     */
+    public static GameState initializeNewGame(long seed, int divisionCount, int teamsPerDivision) {
+        return initializeNewGame(seed, 1, divisionCount, teamsPerDivision);
+    }
+
+    /**
+     * Creates a new GameState with the given number of countries, divisions per country and
+     * teams per division. Teams are generated on {@link MatchConfig#GENERATION_THREADS} workers,
+     * team i from stream i of a sub-stream of {@code seed}, so the game does not depend on the thread count.
+     * Every league, the home league (first country, top division) included, is seeded from a
+     * sub-stream of {@code seed} reserved for league seeds.
+     *
+     * @param seed                the game seed
+     * @param countryCount        number of countries (at least 1)
+     * @param divisionsPerCountry number of divisions in each country (at least 1)
+     * @param teamsPerDivision    teams in each division (at least 2)
+     * @return the initialized GameState with matchday = 1 and day = 1
+     */
+    public static GameState initializeNewGame(long seed, int countryCount, int divisionsPerCountry,
+                                              int teamsPerDivision) {
+        return initializeNewGame(seed, countryCount, divisionsPerCountry, teamsPerDivision, new HeapAttributeStore());
+    }
+
+    /**
+     * Creates a new GameState like {@link #initializeNewGame(long, int, int, int)}, generating
+     * player attributes straight into the given store (e.g. a {@code MappedAttributeStore}).
+     * The same seed yields the same game whichever store is used.
+     *
+     * @param store store the players are packed into
+     */
+    public static GameState initializeNewGame(long seed, int countryCount, int divisionsPerCountry,
+                                              int teamsPerDivision, PlayerAttributeStore store) {
+        int leagueCount = countryCount * divisionsPerCountry;
+        Universe universe = new Universe(store);
+
+        // Generate every team with default tactics and rosters in parallel, league by league,
+        // numbering players and packing their attributes into the universe's store
+        long generationSeed = Dice.streamSeed(seed, GENERATION_STREAM);
+        GenerationReport report = TeamGenerator.generateTeamsBulk(leagueCount * teamsPerDivision, generationSeed, universe);
+        UIPrinter.displayGenerationReport(report);
+        List<Team> teams = report.getTeams();
+
+        // Split them into leagues, each with its own calendar. League seeds come from a sub-stream
+        // of their own, so no league seed is also a fixture stream of another league
+        long leaguesSeed = Dice.streamSeed(seed, LEAGUE_STREAM);
+        List<League> leagues = new ArrayList<>();
+        for (int index = 0; index < leagueCount; index++) {
+            int tier = index % divisionsPerCountry + 1;
+            List<Team> leagueTeams = teams.subList(index * teamsPerDivision, (index + 1) * teamsPerDivision);
+            long leagueSeed = Dice.streamSeed(leaguesSeed, index);
+
+            League league = new League("Division " + tier, leagueTeams, leagueSeed);
+            league.setCountry("Country " + (index / divisionsPerCountry + 1));
+            league.setTier(tier);
+            leagues.add(league);
+        }
 
-        // Initialize league with those teams
-        League league = new League(teams);
+        universe.setLeagues(leagues);
 
         // Create and return the full GameState
-        return new GameState(league, 1, 1);  // Matchday 1, Day 1
+        return new GameState(universe, 1, 1);  // Matchday 1, Day 1
     }
 }
@@ -2,7 +2,7 @@ package com.sal.fm.core;
 
 import com.sal.fm.config.MatchConfig;
 import com.sal.fm.model.GameState;
-import com.sal.fm.model.league.LeagueTableEntry;
+import com.sal.fm.model.Match;
 import com.sal.fm.util.DebugTools;
 
 import java.util.List;
@@ -36,7 +36,8 @@ public class GameLoop {
         boolean running = true;
         while (running) {
             System.out.println("\n==== Football Match Engine ====");
-            System.out.println("Day: " + gameState.getCurrentDay() + " | Matchday: " + gameState.getCurrentMatchday());
+            System.out.println("Season: " + gameState.getSeason() + " | Day: " + gameState.getCurrentDay()
+                    + " | Matchday: " + gameState.getCurrentMatchday() + "/" + gameState.getSeasonLength());
             System.out.println("1. Next Turn");
             System.out.println("2. Show Matchday Schedule");
             System.out.println("3. List Teams");
@@ -44,6 +45,8 @@ public class GameLoop {
             System.out.println("5. Save League");
             System.out.println("6. Show League Table");
             System.out.println("7. Exit Game");
+            System.out.println("8. Replay a Match");
+            System.out.println("9. Season Forecast");
             System.out.println("99. Simulate Debug Match");
             System.out.print("Choose an option: ");
 
@@ -61,6 +64,8 @@ public class GameLoop {
                     System.out.println("✔ Progress saved. Goodbye!");
                     running = false;
                 }
+                case 8 -> handleReplayMatch();
+                case 9 -> handleForecast();
                 case 99 -> DebugTools.simulateDebugMatch(gameState.getLeague());
                 default -> System.out.println("Invalid option. Try again.");
             }
@@ -75,8 +80,14 @@ public class GameLoop {
         gameState.setCurrentDay(currentDay);
         System.out.println("New day: " + currentDay);
 
-        // Trigger matchday if interval reached
+        // Trigger matchday if interval reached; a finished season rolls over to the next one first
         if (currentDay - gameState.getLastMatchdayDay() >= MatchConfig.DAYS_BETWEEN_MATCHDAYS) {
+            if (SeasonManager.isSeasonOver(gameState)) {
+                System.out.println("Season " + gameState.getSeason() + " is over.");
+                SeasonManager.startNextSeason(gameState);
+                return;
+            }
+
             int matchday = gameState.getCurrentMatchday();
             System.out.println("Matchday " + matchday + " begins!");
             MatchSimulator.simulateMatchday(gameState);
@@ -89,7 +100,8 @@ public class GameLoop {
      * Displays upcoming or played matches for the current matchday.
      */
     private void handleShowSchedule() {
-        UIPrinter.showMatchdaySchedule(gameState.getLeague().getMatches(), gameState.getCurrentMatchday());
+        int matchday = gameState.getCurrentMatchday();
+        UIPrinter.showMatchdaySchedule(gameState.getLeague().getFixtures(matchday), matchday);
     }
 
     /**
@@ -106,11 +118,50 @@ public class GameLoop {
         TeamManager.manageTeam(gameState, scanner);
     }
 
+    /**
+     * Lets the user pick a played match and prints its regenerated commentary and duel logs.
+     */
+    private void handleReplayMatch() {
+        System.out.print("Enter matchday: ");
+        int matchday = scanner.nextInt();
+
+        List<Match> played = gameState.getLeague().getFixtures(matchday).stream()
+                .filter(Match::isPlayed)
+                .toList();
+
+        if (played.isEmpty()) {
+            System.out.println("No played matches on matchday " + matchday + ".");
+            return;
+        }
+
+        for (int i = 0; i < played.size(); i++) {
+            Match m = played.get(i);
+            System.out.printf("[%d] %s %d - %d %s%n", i, m.getHomeTeam().getName(),
+                    m.getTeamAScore(), m.getTeamBScore(), m.getAwayTeam().getName());
+        }
+        System.out.print("Choose match: ");
+        int index = scanner.nextInt();
+
+        if (index < 0 || index >= played.size()) {
+            System.out.println("Invalid match number.");
+            return;
+        }
+
+        UIPrinter.printReplay(MatchReplay.of(played.get(index)));
+    }
+
+    /**
+     * Simulates the rest of the season many times and prints each team's outlook.
+     */
+    private void handleForecast() {
+        System.out.println("Simulating " + MatchConfig.FORECAST_ITERATIONS + " seasons...");
+        UIPrinter.displayForecast(SeasonForecaster.forecast(gameState, MatchConfig.FORECAST_ITERATIONS));
+    }
+
     /**
      * Displays the current league standings in table format.
      */
     private void handleShowTable() {
-        List<LeagueTableEntry> table = MatchSimulator.buildLeagueTable(gameState.getLeague());
-        UIPrinter.displayLeagueTable(table);
+        MatchSimulator.displayLeagueTable(gameState.getLeague());
     }
 }
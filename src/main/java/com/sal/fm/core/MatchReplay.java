@@ -0,0 +1,118 @@
+package com.sal.fm.core;
+
+import com.sal.fm.model.Match;
+import com.sal.fm.model.player.Player;
+import com.sal.fm.model.team.Team;
+import com.sal.fm.util.InMemoryMatchLog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Regenerates the full commentary and debug duel lines of an already played match
+ * from its stored seed, instead of keeping text logs on disk.
+ *
+ * The replay re-runs the engine on a scratch copy of the fixture, fielding the starting
+ * lineups stored on the match when it was played, so the original match and teams are never
+ * modified and later lineup changes don't affect it. {@link #isConsistent()} checks that the
+ * replayed score matches the stored one.
+ */
+public class MatchReplay {
+
+    private final Match fixture;
+    private final List<String> commentary;
+    private final List<String> debugLines;
+    private final boolean consistent;
+
+    private MatchReplay(Match fixture, InMemoryMatchLog log, boolean consistent) {
+        this.fixture = fixture;
+        this.commentary = log.getCommentary();
+        this.debugLines = log.getDebugLines();
+        this.consistent = consistent;
+    }
+
+    /**
+     * Replays a played fixture from its seed.
+     *
+     * @param fixture the played match to replay
+     * @return the regenerated commentary and debug lines
+     * @throws IllegalArgumentException if the match has not been played yet
+     */
+    public static MatchReplay of(Match fixture) {
+        if (!fixture.isPlayed()) {
+            throw new IllegalArgumentException("Only played matches can be replayed: " + fixture);
+        }
+
+        Match copy = new Match(asPlayed(fixture.getHomeTeam(), fixture.getHomeLineup()),
+                asPlayed(fixture.getAwayTeam(), fixture.getAwayLineup()));
+        copy.setRound(fixture.getRound());
+        copy.setMatchId(fixture.getMatchId());
+        copy.setFixtureId(fixture.getFixtureId());
+        copy.enableSilentMode();
+        copy.setDebugMode(true);
+
+        InMemoryMatchLog log = new InMemoryMatchLog();
+        copy.startMatch(fixture.getSeed(), log);
+
+        boolean consistent = copy.getTeamAScore() == fixture.getTeamAScore()
+                && copy.getTeamBScore() == fixture.getTeamBScore();
+
+        return new MatchReplay(fixture, log, consistent);
+    }
+
+    /**
+     * Returns a scratch team fielding the stored starting lineup, taken from the team's roster.
+     * Falls back to the team itself when no lineup was stored (saves from before lineups were
+     * stored) or a stored player has left the roster.
+     *
+     * @param team      the team as it is now
+     * @param lineupIds ids of the starting lineup the match was played with, or null
+     * @return a team to replay the match with
+     */
+    private static Team asPlayed(Team team, long[] lineupIds) {
+        if (lineupIds == null) {
+            return team;
+        }
+
+        Map<Long, Player> roster = new HashMap<>();
+        for (Player player : team.getPlayers()) {
+            roster.put(player.getId(), player);
+        }
+
+        List<Player> lineup = new ArrayList<>(lineupIds.length);
+        for (long id : lineupIds) {
+            Player player = roster.get(id);
+            if (player == null) {
+                return team;
+            }
+            lineup.add(player);
+        }
+
+        Team scratch = new Team(team.getName(), team.getTactic());
+        scratch.setStartingLineup(lineup);
+        return scratch;
+    }
+
+    public Match getFixture() {
+        return fixture;
+    }
+
+    public List<String> getCommentary() {
+        return commentary;
+    }
+
+    public List<String> getDebugLines() {
+        return debugLines;
+    }
+
+    /**
+     * Whether the replay reproduced the stored final score.
+     * False means the replay could not field the stored lineups (the save predates them, or a
+     * player left the roster), a player's attributes changed, or the save predates seeds.
+     */
+    public boolean isConsistent() {
+        return consistent;
+    }
+}
@@ -1,12 +1,14 @@
 package com.sal.fm.core;
 
+import com.sal.fm.config.MatchConfig;
 import com.sal.fm.model.GameState;
 import com.sal.fm.model.Match;
 import com.sal.fm.model.league.League;
-import com.sal.fm.model.league.LeagueTableEntry;
-import com.sal.fm.model.team.Team;
+import com.sal.fm.util.MatchLogSegment;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Handles simulation of an entire matchday, including score generation,
@@ -15,50 +17,155 @@ import java.util.*;
 public class MatchSimulator {
 
     /**
-     * Simulates all matches scheduled for the current matchday in the game state.
+     * Simulates all matches scheduled for the current matchday in every league of the universe.
+     * Log files are only written if {@link MatchConfig#PERSIST_MATCH_LOGS} is enabled;
+     * otherwise matches can still be inspected later through {@link MatchReplay}.
+     * With {@link MatchConfig#SEGMENTED_MATCH_LOGS} all matches of the matchday share one
+     * {@link MatchLogSegment} instead of writing files per match.
      *
      * @param state the current GameState object
+     * @return per-league timing of the matchday, or null if nothing was played
      */
-    public static void simulateMatchday(GameState state) {
+    public static MatchdayReport simulateMatchday(GameState state) {
+        return simulateMatchday(state, !MatchConfig.PERSIST_MATCH_LOGS);
+    }
+
+    /**
+     * Simulates all matches scheduled for the current matchday in every league of the universe.
+     *
+     * Every league's fixtures are submitted to the {@link SimulationService} at once and played
+     * side by side. Leagues share no teams, tables or counters, so they never wait on each other.
+     * Only the home country's leagues write logs unless {@link MatchConfig#LOG_ALL_LEAGUES} is set,
+     * and only its divisions have their results and tables printed.
+     *
+     * @param state    the current GameState object
+     * @param headless if true, matches run without commentary or log files (result and summary only)
+     * @return per-league timing of the matchday, or null if nothing was played
+     */
+    public static MatchdayReport simulateMatchday(GameState state, boolean headless) {
         int matchday = state.getCurrentMatchday();
-        League league = state.getLeague();
 
-        if (matchday > 22) {
+        if (matchday > state.getSeasonLength()) {
             System.out.println("The season is over. No more matchdays.");
-            return;
+            return null;
         }
 
         System.out.println("\n=== Simulating Matchday " + matchday + " ===");
 
-        // Find all unplayed matches for this matchday
-        List<Match> matches = league.getMatches().stream()
-                .filter(m -> m.getRound() == matchday && !m.isPlayed())
-                .toList();
+        // Find all unplayed matches for this matchday, per league (shorter calendars may be done already)
+        Map<League, List<Match>> fixtures = new LinkedHashMap<>();
+        for (League league : state.getUniverse().getLeagues()) {
+            List<Match> matches = league.getFixtures(matchday).stream()
+                    .filter(m -> !m.isPlayed())
+                    .toList();
+            if (!matches.isEmpty()) {
+                fixtures.put(league, matches);
+            }
+        }
 
-        if (matches.isEmpty()) {
+        if (fixtures.isEmpty()) {
             System.out.println("No matches found for this matchday.");
-            return;
+            return null;
         }
 
-        for (Match match : matches) {
-            match.enableSilentMode();  // hides logs if not in debug mode
-            match.startMatch();
-            match.markAsPlayed();
-
-            // Display result
-            System.out.printf("%s %d - %d %s%n",
-                    match.getHomeTeam().getName(),
-                    match.getTeamAScore(),
-                    match.getTeamBScore(),
-                    match.getAwayTeam().getName());
+        String homeCountry = state.getLeague().getCountry();
+        MatchLogSegment segment = !headless && MatchConfig.SEGMENTED_MATCH_LOGS
+                ? MatchLogSegment.forMatchday(matchday)
+                : null;
+
+        // Fixtures in a round share no teams, and leagues share none either,
+        // so every match of the matchday can be simulated concurrently
+        MatchdayReport report = new MatchdayReport(matchday);
+        long start = System.nanoTime();
+        List<SimulationService.Batch> batches = new ArrayList<>();
+        fixtures.forEach((league, matches) -> {
+            boolean leagueHeadless = headless || !(MatchConfig.LOG_ALL_LEAGUES || league.getCountry().equals(homeCountry));
+            MatchLogSegment leagueSegment = leagueHeadless ? null : segment;
+            MatchdayReport.LeagueTiming timing = report.addLeague(league);
+
+            batches.add(SimulationService.shared().submit(matches, match -> {
+                long kickOff = System.nanoTime();
+                playFixture(league, match, leagueHeadless, leagueSegment);
+                timing.record(kickOff, System.nanoTime());
+            }));
+        });
+        try {
+            for (SimulationService.Batch batch : batches) {
+                batch.await();
+            }
+        } catch (InterruptedException e) {
+            batches.forEach(SimulationService.Batch::cancel);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Matchday " + matchday + " simulation was interrupted", e);
+        } catch (ExecutionException | TimeoutException e) {
+            batches.forEach(SimulationService.Batch::cancel);
+            throw new IllegalStateException("Matchday " + matchday + " simulation failed", e);
+        } finally {
+            // Cancelled matches that had already kicked off still play to the end; let them finish
+            // writing to the segment and recording their results before it is closed
+            batches.forEach(SimulationService.Batch::awaitTermination);
+            if (segment != null) {
+                segment.close(); // rolls over to the next matchday's segment
+            }
+        }
+        report.setWallNanos(System.nanoTime() - start);
+
+        List<League> homeDivisions = state.getDivisions();
+        for (League league : homeDivisions) {
+            List<Match> matches = fixtures.get(league);
+            if (matches == null) {
+                continue;
+            }
+            if (homeDivisions.size() > 1) {
+                System.out.println("\n--- " + league.getName() + " ---");
+            }
+
+            // Display results in fixture order once every match has finished
+            for (Match match : matches) {
+                System.out.printf("%s %d - %d %s%n",
+                        match.getHomeTeam().getName(),
+                        match.getTeamAScore(),
+                        match.getTeamBScore(),
+                        match.getAwayTeam().getName());
+            }
+
+            // Show updated standings
+            displayLeagueTable(league);
         }
 
-        // Show updated standings
-        displayLeagueTable(league);
+        // With more than one country, show what every league's matchday took
+        if (homeDivisions.size() < state.getUniverse().getLeagues().size()) {
+            UIPrinter.displayMatchdayReport(report);
+        }
 
         // Advance to next matchday
         state.setCurrentMatchday(matchday + 1);
         state.setLastMatchdayDay(state.getCurrentDay());
+        return report;
+    }
+
+    /**
+     * Plays one league fixture and records its result in the league table. This is the unit of work
+     * {@link SimulationService} runs for every match of a matchday.
+     *
+     * @param league   the league the fixture belongs to (provides its seed)
+     * @param match    the fixture to play
+     * @param headless if true, the match runs without commentary or log files
+     * @param segment  matchday log segment to append to, or null for files per match
+     */
+    public static void playFixture(League league, Match match, boolean headless, MatchLogSegment segment) {
+        if (headless) {
+            match.enableHeadlessMode(); // no log files, result only
+        } else {
+            match.enableSilentMode();   // hides logs if not in debug mode
+        }
+
+        if (segment != null) {
+            match.startMatch(league.seedFor(match), segment);
+        } else {
+            match.startMatch(league.seedFor(match));
+        }
+        league.recordResult(match);
     }
 
     /**
@@ -72,60 +179,24 @@ public class MatchSimulator {
 
         System.out.println("\n=== Matchday " + matchday + " Schedule ===");
 
-        league.getMatches().stream()
-                .filter(m -> m.getRound() == matchday)
-                .forEach(m -> {
-                    String home = "[H] " + m.getHomeTeam().getAverageSkill() + " " + m.getHomeTeam().getName();
-                    String away = "[A] " + m.getAwayTeam().getAverageSkill() + " " + m.getAwayTeam().getName();
-
-                    if (m.isPlayed()) {
-                        System.out.printf("%-25s %d - %d %-25s%n", home, m.getTeamAScore(), m.getTeamBScore(), away);
-                    } else {
-                        System.out.printf("%-25s vs %-25s%n", home, away);
-                    }
-                });
-    }
+        for (Match m : league.getFixtures(matchday)) {
+            String home = "[H] " + m.getHomeTeam().getAverageSkill() + " " + m.getHomeTeam().getName();
+            String away = "[A] " + m.getAwayTeam().getAverageSkill() + " " + m.getAwayTeam().getName();
 
-    /**
-     * Rebuilds and displays the league standings table.
-     *
-     * @param league the league to update
-     */
-    public static void displayLeagueTable(League league) {
-        List<LeagueTableEntry> table = buildLeagueTable(league);
-        UIPrinter.displayLeagueTable(table);
+            if (m.isPlayed()) {
+                System.out.printf("%-25s %d - %d %-25s%n", home, m.getTeamAScore(), m.getTeamBScore(), away);
+            } else {
+                System.out.printf("%-25s vs %-25s%n", home, away);
+            }
+        }
     }
 
     /**
-     * Builds the league table from all played matches.
+     * Displays the league standings table.
      *
-     * @param league the league to evaluate
-     * @return sorted list of league table entries
+     * @param league the league to display
      */
-    public static List<LeagueTableEntry> buildLeagueTable(League league) {
-        Map<String, LeagueTableEntry> table = new HashMap<>();
-
-        // Create table entries for each team
-        for (Team team : league.getTeams()) {
-            table.put(team.getName(), new LeagueTableEntry(team));
-        }
-
-        // Apply match results
-        for (Match match : league.getMatches()) {
-            if (!match.isPlayed()) continue;
-
-            Team home = match.getHomeTeam();
-            Team away = match.getAwayTeam();
-            int homeScore = match.getTeamAScore();
-            int awayScore = match.getTeamBScore();
-
-            table.get(home.getName()).recordResult(homeScore, awayScore, true);
-            table.get(away.getName()).recordResult(homeScore, awayScore, false);
-        }
-
-        // Sort by points descending
-        return table.values().stream()
-                .sorted(Comparator.comparingInt(LeagueTableEntry::getPoints).reversed())
-                .toList();
+    public static void displayLeagueTable(League league) {
+        UIPrinter.displayLeagueTable(league.getStandings().getRanking());
     }
 }
@@ -0,0 +1,121 @@
+package com.sal.fm.core;
+
+import com.sal.fm.model.league.League;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timing of one universe matchday, per league.
+ *
+ * For every league it records the matches played, the time spent playing them (summed over
+ * matches, so it exceeds the span when they overlap) and the span from its first kick-off to
+ * its last final whistle. Each league has its own counters, updated without locks by the
+ * threads playing its matches.
+ */
+public class MatchdayReport {
+
+    private final int matchday;
+    private final List<LeagueTiming> leagues = new ArrayList<>();
+    private long wallNanos;
+
+    /**
+     * @param matchday the matchday being simulated
+     */
+    public MatchdayReport(int matchday) {
+        this.matchday = matchday;
+    }
+
+    /**
+     * Adds a league to the report.
+     *
+     * @return the league's timing counters, to be updated as its matches finish
+     */
+    LeagueTiming addLeague(League league) {
+        LeagueTiming timing = new LeagueTiming(league);
+        leagues.add(timing);
+        return timing;
+    }
+
+    void setWallNanos(long wallNanos) {
+        this.wallNanos = wallNanos;
+    }
+
+    public int getMatchday() {
+        return matchday;
+    }
+
+    /**
+     * @return wall-clock time of the whole matchday, every league included
+     */
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * @return per-league timings, in universe order (leagues without fixtures this matchday are left out)
+     */
+    public List<LeagueTiming> getLeagues() {
+        return Collections.unmodifiableList(leagues);
+    }
+
+    /**
+     * @return matches played across all leagues
+     */
+    public int getMatchCount() {
+        return leagues.stream().mapToInt(LeagueTiming::getMatches).sum();
+    }
+
+    /**
+     * Timing counters of one league.
+     */
+    public static class LeagueTiming {
+        private final League league;
+        private final AtomicInteger matches = new AtomicInteger();
+        private final AtomicLong busyNanos = new AtomicLong();
+        private final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong lastEnd = new AtomicLong(Long.MIN_VALUE);
+
+        LeagueTiming(League league) {
+            this.league = league;
+        }
+
+        /**
+         * Records one played match of this league.
+         *
+         * @param start {@link System#nanoTime()} at kick-off
+         * @param end   {@link System#nanoTime()} once its result was recorded
+         */
+        void record(long start, long end) {
+            matches.incrementAndGet();
+            busyNanos.addAndGet(end - start);
+            firstStart.accumulateAndGet(start, Math::min);
+            lastEnd.accumulateAndGet(end, Math::max);
+        }
+
+        public League getLeague() {
+            return league;
+        }
+
+        public int getMatches() {
+            return matches.get();
+        }
+
+        /**
+         * @return time spent playing the league's matches, summed over matches
+         */
+        public long getBusyNanos() {
+            return busyNanos.get();
+        }
+
+        /**
+         * @return time from the league's first kick-off to its last final whistle
+         */
+        public long getSpanNanos() {
+            return matches.get() == 0 ? 0 : lastEnd.get() - firstStart.get();
+        }
+    }
+}
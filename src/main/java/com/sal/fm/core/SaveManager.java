@@ -1,9 +1,11 @@
 package com.sal.fm.core;
 
 import com.sal.fm.model.GameState;
+import com.sal.fm.model.league.League;
 import com.sal.fm.util.JsonUtil;
 
 import java.io.File;
+import java.io.IOException;
 
 /**
  * Handles low-level persistence logic using JSON serialization.
@@ -29,15 +31,40 @@ public class SaveManager {
      * @param state the game state to persist
      */
     public static void save(GameState state) {
+        state.getUniverse().getAttributeStore().force(); // A mapped store's rows must be on disk with the save
         JsonUtil.saveToFile(SAVE_PATH, state);
     }
 
     /**
-     * Loads and deserializes the GameState from the save file.
+     * Loads the GameState from the save file, reopening its mapped attribute store read-write.
      *
-     * @return the loaded GameState instance
+     * @see #load(boolean)
      */
     public static GameState load() {
-        return JsonUtil.loadFromFile(SAVE_PATH, GameState.class);
+        return load(false);
+    }
+
+    /**
+     * Loads and deserializes the GameState from the save file.
+     * Teams and players are shared between the league, matches and lineups after loading.
+     * A game saved on a mapped attribute store reopens that file and its players point at their
+     * saved rows; otherwise player attributes are packed into a new heap store.
+     *
+     * @param readOnlyStore whether to open the mapped store read-only (it can then be shared
+     *                      between processes, but player stats cannot change)
+     * @return the loaded GameState instance, or null if the save or its store cannot be read
+     */
+    public static GameState load(boolean readOnlyStore) {
+        GameState state = JsonUtil.loadFromFile(SAVE_PATH, GameState.class);
+        if (state != null) {
+            state.getUniverse().getLeagues().forEach(League::linkReferences);
+            try {
+                state.getUniverse().restoreAttributeStore(readOnlyStore);
+            } catch (IOException e) {
+                System.err.println("Error opening the player attribute store: " + e.getMessage());
+                return null;
+            }
+        }
+        return state;
     }
 }
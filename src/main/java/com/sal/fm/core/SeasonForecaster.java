@@ -0,0 +1,287 @@
+package com.sal.fm.core;
+
+import com.sal.fm.config.MatchConfig;
+import com.sal.fm.engine.MatchContext;
+import com.sal.fm.engine.MatchEngine;
+import com.sal.fm.model.GameState;
+import com.sal.fm.model.Match;
+import com.sal.fm.model.MatchSummary;
+import com.sal.fm.model.league.League;
+import com.sal.fm.model.league.LeagueStandings;
+import com.sal.fm.model.league.LeagueTableEntry;
+import com.sal.fm.model.league.SeasonForecast;
+import com.sal.fm.model.team.Team;
+import com.sal.fm.util.Dice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo forecaster for the rest of a season.
+ *
+ * Starting from the current standings, it simulates every unplayed fixture many times
+ * and counts where each team finishes. Simulations run headless on scratch state:
+ * the real {@link Match} objects are never modified and no logs are written.
+ * Each simulated season draws from its own {@link Dice} stream, so seasons run in parallel
+ * without shared state and the forecast for a given seed is identical on any number of cores.
+ */
+public class SeasonForecaster {
+
+    /**
+     * Forecasts the final table of the current league with a fresh seed.
+     *
+     * @param state      the current game state (not modified)
+     * @param iterations number of seasons to simulate
+     * @return per-team position probabilities, expected points and points intervals
+     */
+    public static SeasonForecast forecast(GameState state, int iterations) {
+        return forecast(state.getLeague(), iterations, Dice.newSeed());
+    }
+
+    /**
+     * Forecasts the final table of a league.
+     *
+     * @param league     the league to forecast (not modified)
+     * @param iterations number of seasons to simulate
+     * @param seed       seed of the forecast; season i uses stream i of this seed
+     * @return per-team position probabilities, expected points and points intervals
+     */
+    public static SeasonForecast forecast(League league, int iterations, long seed) {
+        List<Team> teams = league.getTeams();
+        int teamCount = teams.size();
+
+        Map<Team, Integer> index = new IdentityHashMap<>();
+        for (int i = 0; i < teamCount; i++) {
+            index.put(teams.get(i), i);
+        }
+
+        // Current standings and the fixtures left to play
+        String[] names = teams.stream().map(Team::getName).toArray(String[]::new);
+        Standings current = new Standings(names);
+        List<Match> remaining = new ArrayList<>();
+        int[] gamesPerTeam = new int[teamCount];
+
+        for (Match match : league.getMatches()) {
+            int home = index.get(match.getHomeTeam());
+            int away = index.get(match.getAwayTeam());
+            gamesPerTeam[home]++;
+            gamesPerTeam[away]++;
+
+            if (match.isPlayed()) {
+                current.record(home, away, match.getTeamAScore(), match.getTeamBScore());
+            } else {
+                remaining.add(match);
+            }
+        }
+
+        int[] homeIndex = remaining.stream().mapToInt(m -> index.get(m.getHomeTeam())).toArray();
+        int[] awayIndex = remaining.stream().mapToInt(m -> index.get(m.getAwayTeam())).toArray();
+        int maxPoints = 3 * IntStream.of(gamesPerTeam).max().orElse(0);
+
+        Tally tally = IntStream.range(0, iterations)
+                .parallel()
+                .collect(() -> new Tally(teamCount, maxPoints),
+                        (t, iteration) -> t.record(simulateSeason(current, remaining, homeIndex, awayIndex,
+                                Dice.forStream(seed, iteration))),
+                        Tally::merge);
+
+        List<SeasonForecast.TeamForecast> forecasts = new ArrayList<>();
+        for (int i = 0; i < teamCount; i++) {
+            forecasts.add(tally.toForecast(teams.get(i), i, iterations));
+        }
+        return new SeasonForecast(iterations, forecasts);
+    }
+
+    /**
+     * Plays out the remaining fixtures once, on a copy of the current standings.
+     */
+    private static Standings simulateSeason(Standings current, List<Match> remaining,
+                                            int[] homeIndex, int[] awayIndex, Dice dice) {
+        Standings standings = current.copy();
+        MatchSummary scratch = new MatchSummary();
+        MatchContext context = MatchContext.headless(dice); // one per season: its buffers are reused by every fixture
+        int minutes = 2 * context.getConfig().minutesPerHalf;
+
+        for (int i = 0; i < remaining.size(); i++) {
+            Match fixture = remaining.get(i);
+            MatchEngine engine = new MatchEngine(fixture.getHomeTeam(), fixture.getAwayTeam(), scratch, context);
+
+            for (int minute = 0; minute < minutes; minute++) {
+                engine.simulateMinute(minute, true);
+            }
+
+            standings.record(homeIndex[i], awayIndex[i], engine.getHomeGoals(), engine.getAwayGoals());
+        }
+        return standings;
+    }
+
+    /**
+     * Flat points / goal difference / goals scored arrays indexed by team, plus the
+     * head-to-head matrices used to break ties the way {@link LeagueStandings} does.
+     */
+    private static class Standings {
+        private final String[] names; // Shared by every copy
+        private final int[] points;
+        private final int[] goalDifference;
+        private final int[] goalsScored;
+        private final int[][] headToHeadPoints; // [team][opponent]
+        private final int[][] headToHeadGoals;  // [team][opponent]
+
+        Standings(String[] names) {
+            this(names, new int[names.length], new int[names.length], new int[names.length],
+                    new int[names.length][names.length], new int[names.length][names.length]);
+        }
+
+        private Standings(String[] names, int[] points, int[] goalDifference, int[] goalsScored,
+                          int[][] headToHeadPoints, int[][] headToHeadGoals) {
+            this.names = names;
+            this.points = points;
+            this.goalDifference = goalDifference;
+            this.goalsScored = goalsScored;
+            this.headToHeadPoints = headToHeadPoints;
+            this.headToHeadGoals = headToHeadGoals;
+        }
+
+        Standings copy() {
+            return new Standings(names, points.clone(), goalDifference.clone(), goalsScored.clone(),
+                    deepCopy(headToHeadPoints), deepCopy(headToHeadGoals));
+        }
+
+        private static int[][] deepCopy(int[][] matrix) {
+            int[][] copy = new int[matrix.length][];
+            for (int i = 0; i < matrix.length; i++) {
+                copy[i] = matrix[i].clone();
+            }
+            return copy;
+        }
+
+        void record(int home, int away, int homeGoals, int awayGoals) {
+            goalsScored[home] += homeGoals;
+            goalsScored[away] += awayGoals;
+            goalDifference[home] += homeGoals - awayGoals;
+            goalDifference[away] += awayGoals - homeGoals;
+
+            int homePoints = LeagueTableEntry.pointsFor(homeGoals, awayGoals);
+            int awayPoints = LeagueTableEntry.pointsFor(awayGoals, homeGoals);
+            points[home] += homePoints;
+            points[away] += awayPoints;
+
+            headToHeadPoints[home][away] += homePoints;
+            headToHeadPoints[away][home] += awayPoints;
+            headToHeadGoals[home][away] += homeGoals;
+            headToHeadGoals[away][home] += awayGoals;
+        }
+
+        /**
+         * Returns team indices in final table order: points, goal difference, goals scored,
+         * then the head-to-head tiebreak of {@link LeagueStandings#orderByHeadToHead}.
+         */
+        int[] ranking() {
+            int[] order = new int[points.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+
+            // Insertion sort — tables are small and this avoids boxing
+            for (int i = 1; i < order.length; i++) {
+                int team = order[i];
+                int j = i - 1;
+                while (j >= 0 && ranksAbove(team, order[j])) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = team;
+            }
+
+            // Runs of teams level on all three go to their head-to-head mini-league
+            int start = 0;
+            while (start < order.length) {
+                int end = start + 1;
+                while (end < order.length && level(order[start], order[end])) {
+                    end++;
+                }
+                if (end - start > 1) {
+                    int[] tied = Arrays.copyOfRange(order, start, end);
+                    LeagueStandings.orderByHeadToHead(tied, headToHeadPoints, headToHeadGoals, i -> names[i]);
+                    System.arraycopy(tied, 0, order, start, tied.length);
+                }
+                start = end;
+            }
+            return order;
+        }
+
+        private boolean ranksAbove(int a, int b) {
+            if (points[a] != points[b]) return points[a] > points[b];
+            if (goalDifference[a] != goalDifference[b]) return goalDifference[a] > goalDifference[b];
+            return goalsScored[a] > goalsScored[b];
+        }
+
+        private boolean level(int a, int b) {
+            return points[a] == points[b] && goalDifference[a] == goalDifference[b] && goalsScored[a] == goalsScored[b];
+        }
+    }
+
+    /**
+     * Per-thread accumulator of final positions and points; merged at the end.
+     */
+    private static class Tally {
+        private final long[][] positionCounts;  // [team][position]
+        private final long[][] pointsHistogram; // [team][points]
+
+        Tally(int teamCount, int maxPoints) {
+            this.positionCounts = new long[teamCount][teamCount];
+            this.pointsHistogram = new long[teamCount][maxPoints + 1];
+        }
+
+        void record(Standings finalStandings) {
+            int[] order = finalStandings.ranking();
+            for (int position = 0; position < order.length; position++) {
+                int team = order[position];
+                positionCounts[team][position]++;
+                pointsHistogram[team][finalStandings.points[team]]++;
+            }
+        }
+
+        void merge(Tally other) {
+            for (int team = 0; team < positionCounts.length; team++) {
+                for (int i = 0; i < positionCounts[team].length; i++) {
+                    positionCounts[team][i] += other.positionCounts[team][i];
+                }
+                for (int i = 0; i < pointsHistogram[team].length; i++) {
+                    pointsHistogram[team][i] += other.pointsHistogram[team][i];
+                }
+            }
+        }
+
+        SeasonForecast.TeamForecast toForecast(Team team, int teamIndex, int iterations) {
+            double[] probabilities = new double[positionCounts[teamIndex].length];
+            for (int i = 0; i < probabilities.length; i++) {
+                probabilities[i] = (double) positionCounts[teamIndex][i] / iterations;
+            }
+
+            long[] histogram = pointsHistogram[teamIndex];
+            double totalPoints = 0;
+            for (int points = 0; points < histogram.length; points++) {
+                totalPoints += (double) points * histogram[points];
+            }
+
+            return new SeasonForecast.TeamForecast(team, probabilities, totalPoints / iterations,
+                    percentile(histogram, iterations, 0.05), percentile(histogram, iterations, 0.95),
+                    MatchConfig.RELEGATION_SPOTS);
+        }
+
+        private static int percentile(long[] histogram, int iterations, double fraction) {
+            long target = (long) Math.ceil(fraction * iterations);
+            long cumulative = 0;
+            for (int points = 0; points < histogram.length; points++) {
+                cumulative += histogram[points];
+                if (cumulative >= target) return points;
+            }
+            return histogram.length - 1;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.sal.fm.core;
+
+import com.sal.fm.config.MatchConfig;
+import com.sal.fm.model.GameState;
+import com.sal.fm.model.league.League;
+import com.sal.fm.model.league.LeagueTableEntry;
+import com.sal.fm.model.team.Team;
+import com.sal.fm.util.Dice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handles the end of a season: promotion and relegation between the divisions
+ * of each country, and the calendars of the next season.
+ */
+public class SeasonManager {
+
+    /** Stream of a division's seed that seeds its next season (fixture streams are 0 and up) */
+    private static final long NEXT_SEASON_STREAM = -1;
+
+    /**
+     * @param state the current GameState
+     * @return true once every matchday of the longest division calendar has been played
+     */
+    public static boolean isSeasonOver(GameState state) {
+        return state.getCurrentMatchday() > state.getSeasonLength();
+    }
+
+    /**
+     * Applies promotion and relegation in every country and starts the next season.
+     *
+     * Between each division and the one below, the bottom {@link MatchConfig#RELEGATION_SPOTS}
+     * teams go down and the top as many of the lower division come up (never more than half
+     * of either division). Every league then gets a new calendar and an empty table;
+     * teams keep their rosters and lineups. Moves are printed for the home country only.
+     *
+     * @param state the GameState whose season has ended
+     */
+    public static void startNextSeason(GameState state) {
+        String homeCountry = state.getLeague().getCountry();
+
+        List<League> next = new ArrayList<>();
+        state.getUniverse().getCountries().forEach((country, divisions) ->
+                next.addAll(nextSeason(divisions, country.equals(homeCountry))));
+
+        state.getUniverse().setLeagues(next);
+        state.setSeason(state.getSeason() + 1);
+        state.setCurrentMatchday(1);
+        state.setLastMatchdayDay(state.getCurrentDay());
+
+        System.out.println("Season " + state.getSeason() + " begins!");
+    }
+
+    /**
+     * Builds next season's divisions of one country from this season's final tables.
+     *
+     * @param divisions  the country's divisions, top division first
+     * @param printMoves whether to print every promotion and relegation
+     */
+    private static List<League> nextSeason(List<League> divisions, boolean printMoves) {
+        List<List<Team>> nextTeams = new ArrayList<>();
+        for (League division : divisions) {
+            nextTeams.add(new ArrayList<>(division.getTeams()));
+        }
+
+        // Decide every move from the final tables before changing any team list
+        for (int tier = 0; tier + 1 < divisions.size(); tier++) {
+            League upper = divisions.get(tier);
+            League lower = divisions.get(tier + 1);
+            int spots = Math.min(MatchConfig.RELEGATION_SPOTS,
+                    Math.min(upper.getTeams().size(), lower.getTeams().size()) / 2);
+
+            List<LeagueTableEntry> upperTable = upper.getStandings().getRanking();
+            List<LeagueTableEntry> lowerTable = lower.getStandings().getRanking();
+
+            for (int i = 0; i < spots; i++) {
+                Team relegated = upperTable.get(upperTable.size() - 1 - i).getTeam();
+                Team promoted = lowerTable.get(i).getTeam();
+
+                nextTeams.get(tier).remove(relegated);
+                nextTeams.get(tier + 1).add(relegated);
+                nextTeams.get(tier + 1).remove(promoted);
+                nextTeams.get(tier).add(promoted);
+
+                if (printMoves) {
+                    System.out.println("⬇ " + relegated.getName() + " relegated to " + lower.getName());
+                    System.out.println("⬆ " + promoted.getName() + " promoted to " + upper.getName());
+                }
+            }
+        }
+
+        List<League> next = new ArrayList<>();
+        for (int tier = 0; tier < divisions.size(); tier++) {
+            League division = divisions.get(tier);
+            long seed = Dice.streamSeed(division.getSeed(), NEXT_SEASON_STREAM);
+            League league = new League(division.getName(), nextTeams.get(tier), seed);
+            league.setCountry(division.getCountry());
+            league.setTier(division.getTier());
+            next.add(league);
+        }
+        return next;
+    }
+}
@@ -0,0 +1,280 @@
+package com.sal.fm.core;
+
+import com.sal.fm.config.MatchConfig;
+import com.sal.fm.model.Match;
+import com.sal.fm.model.league.League;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs batches of fixtures concurrently, one virtual thread per match.
+ *
+ * Matches are CPU-bound, so at most {@code maxInFlight} of them play at once; the others
+ * wait in the queue (see {@link #getQueueDepth()} and {@link #getInFlightCount()}).
+ * Each submitted batch owns its tasks: awaiting it collects every played match in
+ * fixture order, and a failure, a timeout or {@link Batch#cancel()} cancels whatever
+ * of the batch hasn't finished, so no task outlives its batch unnoticed.
+ *
+ * How a match is played is up to the caller; {@link MatchSimulator} submits its matchdays
+ * here, so the interactive game and bulk simulations run through the same engine path.
+ */
+public class SimulationService implements AutoCloseable {
+
+    private static volatile SimulationService shared;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * @param maxInFlight maximum number of matches played at the same time
+     */
+    public SimulationService(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1: " + maxInFlight);
+        }
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * @return the service shared by the game, sized by {@link MatchConfig#SIMULATION_MAX_IN_FLIGHT}
+     */
+    public static SimulationService shared() {
+        SimulationService service = shared;
+        if (service == null) {
+            synchronized (SimulationService.class) {
+                service = shared;
+                if (service == null) {
+                    int maxInFlight = MatchConfig.SIMULATION_MAX_IN_FLIGHT > 0
+                            ? MatchConfig.SIMULATION_MAX_IN_FLIGHT
+                            : Runtime.getRuntime().availableProcessors();
+                    service = new SimulationService(maxInFlight);
+                    shared = service;
+                }
+            }
+        }
+        return service;
+    }
+
+    /**
+     * Submits a batch of fixtures with no time limit.
+     *
+     * @see #submit(List, Consumer, Duration)
+     */
+    public Batch submit(List<Match> fixtures, Consumer<Match> play) {
+        return submit(fixtures, play, null);
+    }
+
+    /**
+     * Submits a batch of fixtures. Fixtures of one batch must not share mutable state
+     * (e.g. a team playing twice), since they run concurrently.
+     *
+     * @param fixtures the matches to play
+     * @param play     plays one match (start it, mark it played, ...)
+     * @param timeout  time the whole batch may take, or null for no limit; matches not
+     *                 started by then are cancelled
+     * @return handle to the batch's futures
+     */
+    public Batch submit(List<Match> fixtures, Consumer<Match> play, Duration timeout) {
+        long deadline = timeout == null ? Long.MAX_VALUE : System.nanoTime() + timeout.toNanos();
+
+        CountDownLatch finished = new CountDownLatch(fixtures.size());
+        List<Future<Match>> futures = new ArrayList<>(fixtures.size());
+        for (Match match : fixtures) {
+            queued.incrementAndGet();
+            MatchTask task = new MatchTask(match, play, deadline, finished);
+            futures.add(task);
+            executor.execute(task);
+        }
+        return new Batch(futures, deadline, finished);
+    }
+
+    /**
+     * Submits the unplayed fixtures of one league round.
+     */
+    public Batch submitRound(League league, int round, Consumer<Match> play, Duration timeout) {
+        List<Match> fixtures = league.getFixtures(round).stream()
+                .filter(m -> !m.isPlayed())
+                .toList();
+        return submit(fixtures, play, timeout);
+    }
+
+    private Match play(Match match, Consumer<Match> play, long deadline, CountDownLatch finished) throws Exception {
+        try {
+            try {
+                permits.acquire();
+            } finally {
+                queued.decrementAndGet();
+            }
+
+            inFlight.incrementAndGet();
+            try {
+                if (deadline != Long.MAX_VALUE && System.nanoTime() - deadline > 0) {
+                    throw new TimeoutException("Batch timed out before " + match + " started");
+                }
+                play.accept(match);
+                return match;
+            } finally {
+                inFlight.decrementAndGet();
+                permits.release();
+            }
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    /**
+     * Future of one match. Whichever comes first, the match starting or the future completing
+     * (i.e. being cancelled before its thread picked it up), claims the task; a task cancelled
+     * before it ran is taken off the queue and counted as finished here, since it never will run.
+     */
+    private final class MatchTask extends FutureTask<Match> {
+        private final AtomicBoolean claimed;
+        private final CountDownLatch finished;
+
+        MatchTask(Match match, Consumer<Match> play, long deadline, CountDownLatch finished) {
+            this(new AtomicBoolean(), match, play, deadline, finished);
+        }
+
+        private MatchTask(AtomicBoolean claimed, Match match, Consumer<Match> play, long deadline,
+                          CountDownLatch finished) {
+            super(() -> claimed.compareAndSet(false, true) ? play(match, play, deadline, finished) : null);
+            this.claimed = claimed;
+            this.finished = finished;
+        }
+
+        @Override
+        protected void done() {
+            if (claimed.compareAndSet(false, true)) {
+                queued.decrementAndGet();
+                finished.countDown();
+            }
+        }
+    }
+
+    /**
+     * @return matches submitted but waiting for a free slot
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * @return matches currently being played
+     */
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    /**
+     * Stops accepting batches and interrupts running ones.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Handle of one submitted batch.
+     */
+    public static final class Batch {
+        private final List<Future<Match>> futures;
+        private final long deadline;
+        private final CountDownLatch finished; // Counts matches that have stopped running or never will
+
+        private Batch(List<Future<Match>> futures, long deadline, CountDownLatch finished) {
+            this.futures = futures;
+            this.deadline = deadline;
+            this.finished = finished;
+        }
+
+        /**
+         * @return one future per fixture, in submission order
+         */
+        public List<Future<Match>> getFutures() {
+            return futures;
+        }
+
+        /**
+         * Waits for every match of the batch, at most until the batch's deadline.
+         * If a match fails or the deadline passes, the rest of the batch is cancelled.
+         *
+         * @return the played matches, in submission order
+         * @throws ExecutionException   if a match failed
+         * @throws TimeoutException     if the batch ran past its deadline
+         * @throws CancellationException if the batch was cancelled
+         * @throws InterruptedException if the waiting thread was interrupted (the batch is cancelled)
+         */
+        public List<Match> await() throws InterruptedException, ExecutionException, TimeoutException {
+            List<Match> results = new ArrayList<>(futures.size());
+            try {
+                for (Future<Match> future : futures) {
+                    if (deadline == Long.MAX_VALUE) {
+                        results.add(future.get());
+                    } else {
+                        long remaining = Math.max(0, deadline - System.nanoTime());
+                        results.add(future.get(remaining, TimeUnit.NANOSECONDS));
+                    }
+                }
+            } catch (InterruptedException | ExecutionException | TimeoutException | CancellationException e) {
+                cancel();
+                throw e;
+            }
+            return results;
+        }
+
+        /**
+         * Waits until no match of the batch is running: each has been played, has failed or was
+         * cancelled before it started. Unlike {@link #await()} this also waits for cancelled
+         * matches that had already kicked off, since the engine plays a started match to the end.
+         * Interrupts are deferred until the wait is over.
+         */
+        public void awaitTermination() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    finished.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Cancels every match of the batch that hasn't started yet. Matches already being
+         * played run to the end; use {@link #awaitTermination()} to wait for them.
+         */
+        public void cancel() {
+            for (Future<Match> future : futures) {
+                future.cancel(true);
+            }
+        }
+
+        /**
+         * @return true once every match of the batch has finished, failed or been cancelled
+         */
+        public boolean isDone() {
+            return futures.stream().allMatch(Future::isDone);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.sal.fm.builder.PlayerGenerator;
 import com.sal.fm.model.GameState;
 import com.sal.fm.model.player.Player;
 import com.sal.fm.model.team.Team;
+import com.sal.fm.util.Dice;
 
 import java.util.Comparator;
 import java.util.List;
@@ -45,7 +46,8 @@ public class TeamManager {
             case 1 -> {
                 // Replace existing players with a new randomized squad
                 team.getPlayers().clear();
-                PlayerGenerator.generateTeamPlayers().forEach(team::addPlayer);
+                team.rosterChanged();
+                PlayerGenerator.generateTeamPlayers(Dice.unseeded(), state.getUniverse()).forEach(team::addPlayer);
                 LineupBuilder.generateLineup(team);
                 System.out.println("✔ New players generated.");
             }
@@ -1,9 +1,10 @@
 package com.sal.fm.core;
 
+import com.sal.fm.builder.GenerationReport;
 import com.sal.fm.model.Match;
 import com.sal.fm.model.league.LeagueTableEntry;
+import com.sal.fm.model.league.SeasonForecast;
 
-import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -14,42 +15,74 @@ public class UIPrinter {
     /**
      * Displays the scheduled or played matches for a given matchday.
      *
-     * @param matches  list of all league matches
+     * @param fixtures the fixtures of the matchday
      * @param matchday the matchday to display
      */
-    public static void showMatchdaySchedule(List<Match> matches, int matchday) {
+    public static void showMatchdaySchedule(List<Match> fixtures, int matchday) {
         System.out.println("\n=== Matchday " + matchday + " Schedule ===");
 
-        matches.stream()
-                .filter(m -> m.getRound() == matchday)
-                .forEach(m -> {
-                    String home = "[H] " + m.getHomeTeam().getAverageSkill() + " " + m.getHomeTeam().getName();
-                    String away = "[A] " + m.getAwayTeam().getAverageSkill() + " " + m.getAwayTeam().getName();
-
-                    if (m.isPlayed()) {
-                        // Show result
-                        System.out.printf("%-25s %d - %d %-25s%n", home, m.getTeamAScore(), m.getTeamBScore(), away);
-                    } else {
-                        // Show fixture
-                        System.out.printf("%-25s vs %-25s%n", home, away);
-                    }
-                });
+        for (Match m : fixtures) {
+            String home = "[H] " + m.getHomeTeam().getAverageSkill() + " " + m.getHomeTeam().getName();
+            String away = "[A] " + m.getAwayTeam().getAverageSkill() + " " + m.getAwayTeam().getName();
+
+            if (m.isPlayed()) {
+                // Show result
+                System.out.printf("%-25s %d - %d %-25s%n", home, m.getTeamAScore(), m.getTeamBScore(), away);
+            } else {
+                // Show fixture
+                System.out.printf("%-25s vs %-25s%n", home, away);
+            }
+        }
+    }
+
+    /**
+     * Prints the regenerated commentary and debug duel lines of a replayed match.
+     *
+     * @param replay the replay to display
+     */
+    public static void printReplay(MatchReplay replay) {
+        System.out.println("\n=== Replay: " + replay.getFixture() + " ===");
+        replay.getCommentary().forEach(System.out::println);
+
+        System.out.println("\n--- Duel Log ---");
+        replay.getDebugLines().forEach(System.out::println);
+
+        if (!replay.isConsistent()) {
+            System.out.println("\n[Warning] Replay differs from the recorded result — the teams changed since this match was played.");
+        }
+    }
+
+    /**
+     * Displays a season forecast: expected points, 90% points range and key finishing probabilities.
+     *
+     * @param forecast the forecast to display
+     */
+    public static void displayForecast(SeasonForecast forecast) {
+        System.out.println("\n=== Season Forecast (" + forecast.getIterations() + " simulations) ===");
+        System.out.printf("%-20s %5s %9s %6s %6s %6s%n", "Team", "xPts", "Pts 90%", "Title", "Top½", "Rel");
+
+        for (SeasonForecast.TeamForecast entry : forecast.getTeams()) {
+            System.out.printf("%-20s %5.1f %4d-%-4d %5.1f%% %5.1f%% %5.1f%%%n",
+                    entry.getTeam().getName(),
+                    entry.getExpectedPoints(),
+                    entry.getPointsLow(),
+                    entry.getPointsHigh(),
+                    entry.getTitleProbability() * 100,
+                    entry.getTopHalfProbability() * 100,
+                    entry.getRelegationProbability() * 100);
+        }
     }
 
     /**
      * Displays the current league standings in table format.
      *
-     * @param table the list of league entries to display
+     * @param table the ranked league entries to display, best first
      */
     public static void displayLeagueTable(List<LeagueTableEntry> table) {
-        List<LeagueTableEntry> sorted = table.stream()
-                .sorted(Comparator.comparingInt(LeagueTableEntry::getPoints).reversed())
-                .toList();
-
         System.out.println("\n=== League Table ===");
         System.out.printf("%-20s %2s %2s %2s %2s %3s %3s %3s%n", "Team", "P", "W", "D", "L", "GS", "GA", "Pts");
 
-        for (LeagueTableEntry entry : sorted) {
+        for (LeagueTableEntry entry : table) {
             System.out.printf("%-20s %2d %2d %2d %2d %3d %3d %3d%n",
                     entry.getTeam().getName(),
                     entry.getPlayed(),
@@ -61,4 +94,35 @@ public class UIPrinter {
                     entry.getPoints());
         }
     }
+
+    /**
+     * Displays how long every league of the universe took to play its matchday.
+     *
+     * @param report the matchday's timing report
+     */
+    public static void displayMatchdayReport(MatchdayReport report) {
+        System.out.printf("%n=== Matchday %d: %d matches in %d leagues, %.1f ms ===%n",
+                report.getMatchday(), report.getMatchCount(), report.getLeagues().size(),
+                report.getWallNanos() / 1e6);
+        System.out.printf("%-15s %-12s %3s %9s %9s%n", "Country", "League", "M", "Busy ms", "Span ms");
+
+        for (MatchdayReport.LeagueTiming timing : report.getLeagues()) {
+            System.out.printf("%-15s %-12s %3d %9.2f %9.2f%n",
+                    timing.getLeague().getCountry(),
+                    timing.getLeague().getName(),
+                    timing.getMatches(),
+                    timing.getBusyNanos() / 1e6,
+                    timing.getSpanNanos() / 1e6);
+        }
+    }
+
+    /**
+     * Prints a one-line summary of a bulk generation run.
+     */
+    public static void displayGenerationReport(GenerationReport report) {
+        int threads = report.getThreads();
+        System.out.printf("Generated %d teams (%d players) on %d %s in %.1f ms, %.0f players/s%n",
+                report.getTeams().size(), report.getPlayerCount(), threads, threads == 1 ? "thread" : "threads",
+                report.getWallNanos() / 1e6, report.getPlayersPerSecond());
+    }
 }
@@ -1,12 +1,14 @@
 package com.sal.fm.engine;
 
-import com.sal.fm.config.MatchConfig;
+import com.sal.fm.config.EngineConfig;
 import com.sal.fm.model.player.Player;
-import com.sal.fm.enums.Position;
 
 /**
  * The AttributeCalculator class contains core logic for calculating
  * stat-based chances in key match events such as shooting, passing, and goal scoring.
+ *
+ * Every calculation takes the {@link EngineConfig} whose weights it applies; the overloads
+ * without one use {@link EngineConfig#DEFAULT}.
  */
 public class AttributeCalculator {
 
@@ -17,13 +19,20 @@ public class AttributeCalculator {
      * @return probability (0.0 to 1.0) the shot is on target
      */
     public static double calculateShootingAccuracy(Player shooter) {
+        return calculateShootingAccuracy(shooter, EngineConfig.DEFAULT);
+    }
+
+    /**
+     * Calculates the chance a shot is on target, using the weights of the given profile.
+     */
+    public static double calculateShootingAccuracy(Player shooter, EngineConfig config) {
         int shooting = shooter.getStats().getTechnical().getShooting();
         int skill = shooter.getStats().getTechnical().getTechnique();
 
         // Weighted sum plus base accuracy
-        double base = MatchConfig.BASE_SHOT_ACCURACY;
-        double weightedSkill = (shooting * MatchConfig.SHOOTING_WEIGHT) +
-                (skill * MatchConfig.SKILL_WEIGHT);
+        double base = config.baseShotAccuracy;
+        double weightedSkill = (shooting * config.shootingWeight) +
+                (skill * config.skillWeight);
 
         return (base + weightedSkill) / 100.0;
     }
@@ -36,6 +45,13 @@ public class AttributeCalculator {
      * @return final goal probability (0.0 to 1.0)
      */
     public static double calculateShotSuccessChance(Player shooter, Player goalkeeper) {
+        return calculateShotSuccessChance(shooter, goalkeeper, EngineConfig.DEFAULT);
+    }
+
+    /**
+     * Calculates the chance a shot results in a goal, using the weights of the given profile.
+     */
+    public static double calculateShotSuccessChance(Player shooter, Player goalkeeper, EngineConfig config) {
         // Offensive stats
         int shooting = shooter.getStats().getTechnical().getShooting();
         int technique = shooter.getStats().getTechnical().getTechnique();
@@ -50,34 +66,28 @@ public class AttributeCalculator {
         int oneOnOnes = goalkeeper.getStats().getGoalkeeping().getOneOnOnes();
 
         // Attacker contribution (weighted sum)
-        double attackerScore = shooting * MatchConfig.SHOOTING_WEIGHT +
-                technique * MatchConfig.TECHNIQUE_WEIGHT +
-                composure * MatchConfig.COMPOSURE_WEIGHT +
-                longShots * MatchConfig.LONG_SHOTS_WEIGHT +
-                balance * MatchConfig.BALANCE_WEIGHT +
-                strength * MatchConfig.STRENGTH_WEIGHT;
+        double attackerScore = shooting * config.shootingWeight +
+                technique * config.techniqueWeight +
+                composure * config.composureWeight +
+                longShots * config.longShotsWeight +
+                balance * config.balanceWeight +
+                strength * config.strengthWeight;
 
         // Defender contribution (weighted sum)
-        double defenderScore = reflexes * MatchConfig.REFLEXES_WEIGHT +
-                positioning * MatchConfig.POSITIONING_WEIGHT +
-                oneOnOnes * MatchConfig.ONE_ON_ONE_WEIGHT;
+        double defenderScore = reflexes * config.reflexesWeight +
+                positioning * config.positioningWeight +
+                oneOnOnes * config.oneOnOneWeight;
 
         // Position modifier (e.g., PIVOTs are stronger finishers than FIXOs)
-        double positionModifier = switch (shooter.getPosition()) {
-            case WINGER -> MatchConfig.MODIFIER_WINGER;
-            case PIVOT -> MatchConfig.MODIFIER_PIVOT;
-            case FIXO -> MatchConfig.MODIFIER_FIXO;
-            case GOALKEEPER -> MatchConfig.MODIFIER_GOALKEEPER;
-            default -> 1.0;
-        };
+        double positionModifier = config.positionModifier(shooter.getPosition());
 
         // Bonus for high work rate players
-        if (shooter.getStats().getMental().getWorkRate() >= MatchConfig.HIGH_WORKRATE_THRESHOLD) {
-            attackerScore += MatchConfig.HIGH_WORKRATE_BONUS * 100;
+        if (shooter.getStats().getMental().getWorkRate() >= config.highWorkrateThreshold) {
+            attackerScore += config.highWorkrateBonus * 100;
         }
 
         // Compute raw and adjusted chance
-        double rawChance = MatchConfig.BASE_GOAL_CHANCE + (attackerScore - defenderScore) / 100.0;
+        double rawChance = config.baseGoalChance + (attackerScore - defenderScore) / 100.0;
         double finalChance = clampChance(rawChance * positionModifier);
 
         return finalChance;
@@ -92,41 +102,73 @@ public class AttributeCalculator {
      * @return adjusted goal chance
      */
     public static double calculateGoalChance(Player shooter, Player goalkeeper, boolean underPressure) {
+        return calculateGoalChance(shooter, goalkeeper, underPressure, EngineConfig.DEFAULT);
+    }
+
+    /**
+     * Legacy goal chance, using the weights of the given profile.
+     */
+    public static double calculateGoalChance(Player shooter, Player goalkeeper, boolean underPressure, EngineConfig config) {
         int shotPower = shooter.getStats().getTechnical().getShooting();
         int pace = shooter.getStats().getPhysical().getPace();
         int gkSkill = goalkeeper.getStats().getGoalkeeping().getReflexes();
 
-        double base = MatchConfig.BASE_GOAL_CHANCE;
+        double base = config.baseGoalChance;
 
         // Attacker and goalkeeper contributions
-        double attackerFactor = (shotPower * MatchConfig.SHOT_POWER_WEIGHT + pace * MatchConfig.PACE_WEIGHT) / 100.0;
-        double keeperFactor = gkSkill * MatchConfig.GK_DEFENSE_WEIGHT / 100.0;
+        double attackerFactor = (shotPower * config.shotPowerWeight + pace * config.paceWeight) / 100.0;
+        double keeperFactor = gkSkill * config.gkDefenseWeight / 100.0;
 
         double rawChance = base + attackerFactor - keeperFactor;
 
         // Apply position-based multiplier
-        double modifier = switch (shooter.getPosition()) {
-            case PIVOT -> MatchConfig.MODIFIER_PIVOT;
-            case WINGER -> MatchConfig.MODIFIER_WINGER;
-            case FIXO -> MatchConfig.MODIFIER_FIXO;
-            case GOALKEEPER -> MatchConfig.MODIFIER_GOALKEEPER;
-            default -> 1.0;
-        };
+        double modifier = config.positionModifier(shooter.getPosition());
 
         // Work rate bonus
-        if (shooter.getStats().getMental().getWorkRate() >= MatchConfig.HIGH_WORKRATE_THRESHOLD) {
-            rawChance += MatchConfig.HIGH_WORKRATE_BONUS;
+        if (shooter.getStats().getMental().getWorkRate() >= config.highWorkrateThreshold) {
+            rawChance += config.highWorkrateBonus;
         }
 
         // Pressure penalty
         if (underPressure) {
             int pressure = shooter.getStats().getHidden().getPressureHandling();
-            rawChance -= pressure * MatchConfig.PRESSURE_BALANCE_PENALTY;
+            rawChance -= pressure * config.pressureBalancePenalty;
         }
 
         return Math.max(0, rawChance * modifier);
     }
 
+    /**
+     * Calculates the attacking score a passer brings into a pass-vs-tackle duel.
+     *
+     * @param passer the passing player
+     * @return weighted score of passing, technique and vision
+     */
+    public static double calculatePassScore(Player passer) {
+        return calculatePassScore(passer, EngineConfig.DEFAULT);
+    }
+
+    /**
+     * Calculates a passer's duel score, using the weights of the given profile.
+     */
+    public static double calculatePassScore(Player passer, EngineConfig config) {
+        int passing = passer.getStats().getTechnical().getPassing();
+        int technique = passer.getStats().getTechnical().getTechnique();
+        int vision = passer.getStats().getMental().getVision();
+
+        return passing * config.passingWeight + technique * config.techniqueWeight + vision * config.visionWeight;
+    }
+
+    /**
+     * Calculates the defending score a tackler brings into a pass-vs-tackle duel.
+     *
+     * @param defender the tackling player
+     * @return the defender's tackling
+     */
+    public static double calculateTackleScore(Player defender) {
+        return defender.getStats().getTechnical().getTackling();
+    }
+
     /**
      * Calculates chance of a successful pass based on attacker and defender stats.
      *
@@ -135,6 +177,13 @@ public class AttributeCalculator {
      * @return chance of a successful pass (0.0 to 1.0)
      */
     public static double calculatePassSuccessChance(Player passer, Player defender) {
+        return calculatePassSuccessChance(passer, defender, EngineConfig.DEFAULT);
+    }
+
+    /**
+     * Calculates the chance of a successful pass, using the weights of the given profile.
+     */
+    public static double calculatePassSuccessChance(Player passer, Player defender, EngineConfig config) {
         int passing = passer.getStats().getTechnical().getPassing();
         int technique = passer.getStats().getTechnical().getTechnique();
         int vision = passer.getStats().getMental().getVision();
@@ -143,15 +192,15 @@ public class AttributeCalculator {
         int anticipation = defender.getStats().getMental().getAnticipation();
 
         // Weighted duel scores
-        double attackerScore = passing * MatchConfig.PASSING_WEIGHT +
-                technique * MatchConfig.TECHNIQUE_WEIGHT +
-                vision * MatchConfig.VISION_WEIGHT;
+        double attackerScore = passing * config.passingWeight +
+                technique * config.techniqueWeight +
+                vision * config.visionWeight;
 
-        double defenderScore = tackling * MatchConfig.DEFENDING_WEIGHT +
-                anticipation * MatchConfig.ANTICIPATION_WEIGHT;
+        double defenderScore = tackling * config.defendingWeight +
+                anticipation * config.anticipationWeight;
 
         // Add baseline pass chance to give weaker players some help
-        double chance = (attackerScore - defenderScore + MatchConfig.BASE_PASS_CHANCE) / 100.0;
+        double chance = (attackerScore - defenderScore + config.basePassChance) / 100.0;
 
         return clampChance(chance);
     }
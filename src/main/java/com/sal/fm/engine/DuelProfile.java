@@ -0,0 +1,149 @@
+package com.sal.fm.engine;
+
+import com.sal.fm.config.EngineConfig;
+import com.sal.fm.model.player.Player;
+import com.sal.fm.model.team.LineupView;
+
+import java.util.List;
+
+/**
+ * Per-match table of every duel value the engine needs, compiled once at kick-off.
+ *
+ * Attributes don't change during a match, so instead of walking
+ * {@code Player -> PlayerStats -> ...Attributes} getter chains every minute, the pass score,
+ * tackle score, shot accuracy and shooter-vs-keeper goal chance of each starter are
+ * computed once and stored in flat primitive arrays. A simulated minute is then
+ * reduced to array lookups and random draws.
+ *
+ * Arrays are indexed by side ({@link #HOME} or {@link #AWAY}) and then by the player's
+ * index among that side's field players (or goalkeepers). A profile owned by a
+ * {@link MatchContext} is recompiled in place, reusing its arrays when lineup sizes match.
+ */
+public class DuelProfile {
+
+    public static final int HOME = 0;
+    public static final int AWAY = 1;
+
+    private final Player[][] fieldPlayers = new Player[2][];
+    private final Player[][] goalkeepers = new Player[2][];
+
+    private final double[][] passScore = new double[2][];       // [side][field player]
+    private final double[][] tackleScore = new double[2][];     // [side][field player]
+    private final double[][] shotAccuracy = new double[2][];    // [side][field player]
+    private final double[][][] goalChance = new double[2][][];  // [shooting side][shooter][opposing keeper]
+
+    DuelProfile() {
+    }
+
+    /**
+     * Compiles the duel profile of a match from both teams' lineup views, with the default config.
+     *
+     * @param home lineup view of the home team
+     * @param away lineup view of the away team
+     * @return the compiled profile
+     */
+    public static DuelProfile compile(LineupView home, LineupView away) {
+        DuelProfile profile = new DuelProfile();
+        profile.recompile(home, away, EngineConfig.DEFAULT);
+        return profile;
+    }
+
+    /**
+     * Recompiles this profile in place for the given lineups and config.
+     */
+    void recompile(LineupView home, LineupView away, EngineConfig config) {
+        compileLineup(HOME, home, config);
+        compileLineup(AWAY, away, config);
+        compileGoalChances(HOME, config);
+        compileGoalChances(AWAY, config);
+    }
+
+    private void compileLineup(int side, LineupView lineup, EngineConfig config) {
+        fieldPlayers[side] = fill(fieldPlayers[side], lineup.getFieldPlayers());
+        goalkeepers[side] = fill(goalkeepers[side], lineup.getGoalkeepers());
+
+        int n = fieldPlayers[side].length;
+        passScore[side] = sized(passScore[side], n);
+        tackleScore[side] = sized(tackleScore[side], n);
+        shotAccuracy[side] = sized(shotAccuracy[side], n);
+
+        for (int i = 0; i < n; i++) {
+            Player p = fieldPlayers[side][i];
+            passScore[side][i] = AttributeCalculator.calculatePassScore(p, config);
+            tackleScore[side][i] = AttributeCalculator.calculateTackleScore(p);
+            shotAccuracy[side][i] = AttributeCalculator.calculateShootingAccuracy(p, config);
+        }
+    }
+
+    private void compileGoalChances(int side, EngineConfig config) {
+        Player[] shooters = fieldPlayers[side];
+        Player[] keepers = goalkeepers[opponent(side)];
+
+        if (goalChance[side] == null || goalChance[side].length != shooters.length) {
+            goalChance[side] = new double[shooters.length][];
+        }
+        for (int s = 0; s < shooters.length; s++) {
+            goalChance[side][s] = sized(goalChance[side][s], keepers.length);
+            for (int k = 0; k < keepers.length; k++) {
+                goalChance[side][s][k] = AttributeCalculator.calculateShotSuccessChance(shooters[s], keepers[k], config);
+            }
+        }
+    }
+
+    private static Player[] fill(Player[] array, List<Player> players) {
+        Player[] result = array != null && array.length == players.size() ? array : new Player[players.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = players.get(i);
+        }
+        return result;
+    }
+
+    private static double[] sized(double[] array, int length) {
+        return array != null && array.length == length ? array : new double[length];
+    }
+
+    /**
+     * @return the other side
+     */
+    public static int opponent(int side) {
+        return 1 - side;
+    }
+
+    public int fieldPlayerCount(int side) {
+        return fieldPlayers[side].length;
+    }
+
+    public int goalkeeperCount(int side) {
+        return goalkeepers[side].length;
+    }
+
+    public Player fieldPlayer(int side, int index) {
+        return fieldPlayers[side][index];
+    }
+
+    public Player goalkeeper(int side, int index) {
+        return goalkeepers[side][index];
+    }
+
+    public double passScore(int side, int index) {
+        return passScore[side][index];
+    }
+
+    public double tackleScore(int side, int index) {
+        return tackleScore[side][index];
+    }
+
+    public double shotAccuracy(int side, int index) {
+        return shotAccuracy[side][index];
+    }
+
+    /**
+     * @param side    the shooting side
+     * @param shooter index of the shooter among that side's field players
+     * @param keeper  index of the keeper among the opposing side's goalkeepers
+     * @return chance the shot beats the keeper, before any pressure penalty
+     */
+    public double goalChance(int side, int shooter, int keeper) {
+        return goalChance[side][shooter][keeper];
+    }
+}
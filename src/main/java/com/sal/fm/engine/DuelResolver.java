@@ -1,43 +1,13 @@
 package com.sal.fm.engine;
 
 import com.sal.fm.model.player.Player;
-import com.sal.fm.config.MatchConfig;
-import com.sal.fm.util.DiceUtil;
 
 /**
- * Handles outcome calculations for duels between players during passing and shooting.
- * Includes utility methods for determining outcomes and generating debug logs.
+ * Builds the debug lines describing duels between players during passing and shooting.
+ * The chances themselves are precomputed per match by {@link DuelProfile}.
  */
 public class DuelResolver {
 
-    private static double lastGoalChance = 0.0;
-
-    /**
-     * Determines whether a shot is on target based on shooter's attributes.
-     */
-    public static boolean isShotOnTarget(Player shooter) {
-        double accuracyChance = AttributeCalculator.calculateShootingAccuracy(shooter);
-        return DiceUtil.chance(accuracyChance);
-    }
-
-    /**
-     * Determines whether a shot results in a goal, factoring in pressure.
-     */
-    public static boolean isGoal(Player shooter, Player goalkeeper, boolean underPressure) {
-        double chance = AttributeCalculator.calculateShotSuccessChance(shooter, goalkeeper);
-
-        if (underPressure) {
-            chance -= MatchConfig.PRESSURE_BALANCE_PENALTY;
-        }
-
-        lastGoalChance = chance;
-        return DiceUtil.chance(chance);
-    }
-
-    public static double getLastGoalChance() {
-        return lastGoalChance;
-    }
-
     /**
      * Builds a detailed debug string showing attributes and chance calculation for a shot.
      */
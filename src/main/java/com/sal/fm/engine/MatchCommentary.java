@@ -0,0 +1,41 @@
+package com.sal.fm.engine;
+
+/**
+ * Turns {@link MatchEventRecord}s into commentary and debug text.
+ *
+ * Only sinks that actually output text call this, so headless and result-only
+ * simulations never build a string.
+ */
+public class MatchCommentary {
+
+    /**
+     * Renders an event as the line written to the match (or debug) log, without the minute prefix.
+     */
+    public static String render(MatchEventRecord event) {
+        return switch (event.getType()) {
+            case KICK_OFF -> "Kick-off! " + event.getHomeTeam().getName() + " vs " + event.getAwayTeam().getName();
+            case HALF_TIME -> "⏸ Halftime: " + scoreline(event);
+            case SECOND_HALF -> "▶ Second Half Begins!";
+            case FULL_TIME -> "🔚 Full-time!";
+            case FINAL_SCORE -> "Final Score: " + scoreline(event);
+
+            case BREAKS_PRESS -> event.getActorPlayer().getName() + " breaks through the press!";
+            case WINS_BALL -> event.getOpponentPlayer().getName() + " wins the ball for " + event.getOpposingTeam().getName();
+            case BUILDS_MOMENTUM -> event.getOpposingTeam().getName() + " builds momentum after a strong tackle!";
+            case GOAL -> event.getActorPlayer().getName() + " scores for " + event.getTeam().getName() + "!";
+            case SAVE -> event.getOpponentPlayer().getName() + " makes a big save for " + event.getOpposingTeam().getName();
+            case SHOT_WIDE -> event.getActorPlayer().getName() + " fires wide!";
+
+            case PASS_DUEL -> DuelResolver.buildPassingDebugLog(event.getActorPlayer(), event.getOpponentPlayer(),
+                    event.isSuccess(), event.getAttackerScore(), event.getDefenderScore());
+            case SHOT_DUEL -> DuelResolver.buildShootingDebugLog(event.getActorPlayer(), event.getOpponentPlayer(),
+                    event.getChance(), event.isSuccess(), event.isUnderPressure());
+            case SHOT_MISSED -> "❌ Shot missed by " + event.getActorPlayer().getName();
+        };
+    }
+
+    private static String scoreline(MatchEventRecord event) {
+        return event.getHomeTeam().getName() + " " + event.getHomeGoals() + " - "
+                + event.getAwayGoals() + " " + event.getAwayTeam().getName();
+    }
+}
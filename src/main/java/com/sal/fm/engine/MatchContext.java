@@ -0,0 +1,71 @@
+package com.sal.fm.engine;
+
+import com.sal.fm.config.EngineConfig;
+import com.sal.fm.util.Dice;
+import com.sal.fm.util.MatchEventSink;
+
+/**
+ * Everything a {@link MatchEngine} needs besides the two teams: its random stream,
+ * the config profile it plays by, where its events go, and scratch buffers
+ * (duel profile tables, event record) it fills instead of allocating.
+ *
+ * The engine keeps no state outside its engine and context instances, so any number of matches
+ * can run concurrently as long as each thread uses its own context. A context may be reused
+ * for consecutive matches on one thread (e.g. every fixture of a simulated season),
+ * which also reuses its scratch buffers.
+ */
+public class MatchContext {
+
+    private final Dice dice;
+    private final EngineConfig config;
+    private final MatchEventSink sink;
+    private final boolean debugMode;
+
+    // Scratch buffers, refilled by each engine using this context
+    private final DuelProfile profile = new DuelProfile();
+    private final MatchEventRecord event = new MatchEventRecord();
+
+    /**
+     * @param dice      random stream the match draws from
+     * @param config    tunables the match is played with
+     * @param sink      destination of the match's events
+     * @param debugMode whether debug (duel breakdown) events are reported
+     */
+    public MatchContext(Dice dice, EngineConfig config, MatchEventSink sink, boolean debugMode) {
+        this.dice = dice;
+        this.config = config;
+        this.sink = sink;
+        this.debugMode = debugMode && sink.isEnabled();
+    }
+
+    /**
+     * Creates a context for a result-only match with the default config.
+     */
+    public static MatchContext headless(Dice dice) {
+        return new MatchContext(dice, EngineConfig.DEFAULT, MatchEventSink.NONE, false);
+    }
+
+    public Dice getDice() {
+        return dice;
+    }
+
+    public EngineConfig getConfig() {
+        return config;
+    }
+
+    public MatchEventSink getSink() {
+        return sink;
+    }
+
+    public boolean isDebugMode() {
+        return debugMode;
+    }
+
+    DuelProfile getProfile() {
+        return profile;
+    }
+
+    MatchEventRecord getEvent() {
+        return event;
+    }
+}
@@ -1,34 +1,93 @@
 package com.sal.fm.engine;
 
-import com.sal.fm.config.MatchConfig;
+import com.sal.fm.config.EngineConfig;
 import com.sal.fm.enums.MatchEvent;
-import com.sal.fm.enums.Position;
+import com.sal.fm.enums.MatchEventType;
 import com.sal.fm.model.Match;
-import com.sal.fm.model.player.Player;
+import com.sal.fm.model.MatchSummary;
+import com.sal.fm.model.team.LineupView;
 import com.sal.fm.model.team.Team;
-import com.sal.fm.util.DiceUtil;
-import com.sal.fm.util.MatchLogger;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import com.sal.fm.util.Dice;
+import com.sal.fm.util.MatchEventSink;
 
 /**
  * Core simulation engine that handles minute-by-minute match logic.
  * Responsible for triggering and resolving passing and shooting events,
- * applying momentum effects, and logging outcomes.
+ * applying momentum effects, and reporting outcomes.
+ * Outcomes are reported as typed {@link MatchEventRecord}s; the engine never builds
+ * text itself. When the sink is disabled (headless mode) nothing is reported at all;
+ * only the score and the match summary counters are updated.
+ *
+ * All per-match state lives in the engine and its {@link MatchContext} (random stream,
+ * config profile, sink, scratch buffers); nothing is static, so engines on different
+ * threads never share anything.
  */
 public class MatchEngine {
-    private final Match match;
-    private final MatchLogger logger;
+    private final Team homeTeam;
+    private final Team awayTeam;
+    private final MatchSummary summary;
+    private final MatchEventSink logger;
     private final boolean debugMode;
+    private final Dice dice;              // This match's own random stream
+    private final EngineConfig config;    // Tunables this match is played with
+    private LineupView homeLineup;        // Lineup views the profile was compiled from
+    private LineupView awayLineup;
+    private final DuelProfile profile;    // Duel values of both lineups, compiled at kick-off
+    private final MatchEventRecord event; // Reused for every reported event
 
     private boolean homeMomentum = false;
     private boolean awayMomentum = false;
 
-    public MatchEngine(Match match, MatchLogger logger, boolean debugMode) {
-        this.match = match;
-        this.logger = logger;
-        this.debugMode = debugMode;
+    private int homeGoals = 0;
+    private int awayGoals = 0;
+
+    /**
+     * Creates an engine for a scheduled match, filling in the match's summary counters.
+     */
+    public MatchEngine(Match match, MatchContext context) {
+        this(match.getHomeTeam(), match.getAwayTeam(), match.getSummary(), context);
+    }
+
+    /**
+     * Creates an engine that only needs the two teams, e.g. for forecasts run on scratch state.
+     * Goals are tracked by the engine itself; the caller decides what to do with the result.
+     */
+    public MatchEngine(Team homeTeam, Team awayTeam, MatchSummary summary, MatchContext context) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.summary = summary;
+        this.dice = context.getDice();
+        this.config = context.getConfig();
+        this.logger = context.getSink();
+        this.debugMode = context.isDebugMode();
+        this.profile = context.getProfile();
+        this.event = context.getEvent();
+        event.setTeams(homeTeam, awayTeam);
+        event.setProfile(profile);
+        compileProfile();
+    }
+
+    /**
+     * Reports the kick-off.
+     */
+    public void kickOff(int minute, boolean silentMode) {
+        report(MatchEventType.KICK_OFF, minute, silentMode);
+    }
+
+    /**
+     * Reports the half-time score and the start of the second half.
+     */
+    public void halfTime(int minute, boolean silentMode) {
+        report(MatchEventType.HALF_TIME, minute, silentMode);
+        report(MatchEventType.SECOND_HALF, minute, silentMode);
+    }
+
+    /**
+     * Reports the final whistle and the final score.
+     */
+    public void fullTime(int minute, boolean silentMode) {
+        report(MatchEventType.FULL_TIME, minute, silentMode);
+        report(MatchEventType.FINAL_SCORE, minute, silentMode);
     }
 
     /**
@@ -39,14 +98,19 @@ public class MatchEngine {
         MatchEvent event;
 
         if (homeMomentum || awayMomentum) {
-            event = DiceUtil.rollPercent(MatchConfig.MOMENTUM_SHOT_WEIGHT) ? MatchEvent.SHOT_ON_GOAL : MatchEvent.PASS_OR_TACKLE;
+            event = dice.rollPercent(config.momentumShotWeight) ? MatchEvent.SHOT_ON_GOAL : MatchEvent.PASS_OR_TACKLE;
         } else {
-            event = DiceUtil.rollPercent(MatchConfig.NORMAL_PASS_WEIGHT) ? MatchEvent.PASS_OR_TACKLE : MatchEvent.SHOT_ON_GOAL;
+            event = dice.rollPercent(config.normalPassWeight) ? MatchEvent.PASS_OR_TACKLE : MatchEvent.SHOT_ON_GOAL;
         }
 
         homeMomentum = false;
         awayMomentum = false;
 
+        // A substitution or injury replaced a team's lineup view: recompile the duel values
+        if (homeTeam.getLineupView() != homeLineup || awayTeam.getLineupView() != awayLineup) {
+            compileProfile();
+        }
+
         switch (event) {
             case PASS_OR_TACKLE -> handlePassOrTackle(currentMinute, silentMode);
             case SHOT_ON_GOAL -> handleShotOnGoal(currentMinute, silentMode);
@@ -58,41 +122,43 @@ public class MatchEngine {
      * If successful, attacker breaks the press; if not, defender builds momentum.
      */
     private void handlePassOrTackle(int minute, boolean silentMode) {
-        Team attacking = DiceUtil.rollPercent(50) ? match.getHomeTeam() : match.getAwayTeam();
-        Team defending = attacking == match.getHomeTeam() ? match.getAwayTeam() : match.getHomeTeam();
+        int attackingSide = dice.rollPercent(50) ? DuelProfile.HOME : DuelProfile.AWAY;
+        int defendingSide = DuelProfile.opponent(attackingSide);
+
+        int attackers = profile.fieldPlayerCount(attackingSide);
+        int defenders = profile.fieldPlayerCount(defendingSide);
 
-        List<Player> attackers = getFieldPlayers(attacking);
-        List<Player> defenders = getFieldPlayers(defending);
+        if (attackers == 0 || defenders == 0) return;
 
-        if (attackers.isEmpty() || defenders.isEmpty()) return;
+        int attacker = dice.pickIndex(attackers);
+        int defender = dice.pickIndex(defenders);
 
-        Player attacker = DiceUtil.pickRandom(attackers);
-        Player defender = DiceUtil.pickRandom(defenders);
+        double attackerScore = profile.passScore(attackingSide, attacker);
+        double defenderScore = profile.tackleScore(defendingSide, defender);
 
-        int passing = attacker.getStats().getTechnical().getPassing();
-        int technique = attacker.getStats().getTechnical().getTechnique();
-        int vision = attacker.getStats().getMental().getVision();
-        double attackerScore = passing * 0.5 + technique * 0.3 + vision * 0.2;
+        boolean success = attackerScore > defenderScore || dice.successCheck((int) attackerScore, (int) defenderScore);
+        summary.recordPass(attackingSide == DuelProfile.HOME, success);
 
-        int tackling = defender.getStats().getTechnical().getTackling();
-        double defenderScore = tackling;
+        if (!success) {
+            if (defendingSide == DuelProfile.HOME) homeMomentum = true;
+            else awayMomentum = true;
+        }
 
-        boolean success = attackerScore > defenderScore || DiceUtil.successCheck((int) attackerScore, (int) defenderScore);
+        if (!logger.isEnabled()) return;
 
         // Debug output
         if (debugMode) {
-            logger.logDebug(minute, DuelResolver.buildPassingDebugLog(attacker, defender, success, attackerScore, defenderScore));
+            event.reset(MatchEventType.PASS_DUEL, minute, attackingSide, attacker, defender);
+            event.setScores(attackerScore, defenderScore);
+            event.setSuccess(success);
+            logger.onEvent(event, silentMode);
         }
 
         if (success) {
-            logger.log(minute, attacker.getName() + " breaks through the press!", silentMode);
+            report(MatchEventType.BREAKS_PRESS, minute, attackingSide, attacker, defender, silentMode);
         } else {
-            logger.log(minute, defender.getName() + " wins the ball for " + defending.getName(), silentMode);
-
-            if (defending == match.getHomeTeam()) homeMomentum = true;
-            else awayMomentum = true;
-
-            logger.log(minute, defending.getName() + " builds momentum after a strong tackle!", silentMode);
+            report(MatchEventType.WINS_BALL, minute, attackingSide, attacker, defender, silentMode);
+            report(MatchEventType.BUILDS_MOMENTUM, minute, attackingSide, attacker, defender, silentMode);
         }
     }
 
@@ -101,53 +167,78 @@ public class MatchEngine {
      * Determines if the shot is on target, and if it results in a goal or save.
      */
     private void handleShotOnGoal(int minute, boolean silentMode) {
-        Team attacking = DiceUtil.rollPercent(50) ? match.getHomeTeam() : match.getAwayTeam();
-        Team defending = attacking == match.getHomeTeam() ? match.getAwayTeam() : match.getHomeTeam();
+        int attackingSide = dice.rollPercent(50) ? DuelProfile.HOME : DuelProfile.AWAY;
+        int defendingSide = DuelProfile.opponent(attackingSide);
 
-        List<Player> shooters = getFieldPlayers(attacking);
-        List<Player> goalkeepers = defending.getStartingLineup().stream()
-                .filter(p -> p.getPosition() == Position.GOALKEEPER)
-                .collect(Collectors.toList());
+        int shooters = profile.fieldPlayerCount(attackingSide);
 
-        if (shooters.isEmpty() || goalkeepers.isEmpty()) return;
+        if (shooters == 0 || profile.goalkeeperCount(defendingSide) == 0) return;
 
-        Player shooter = DiceUtil.pickRandom(shooters);
-        Player goalkeeper = goalkeepers.get(0);
+        int shooter = dice.pickIndex(shooters);
+        int goalkeeper = 0;
 
-        boolean underPressure = DiceUtil.rollPercent(35);
-        boolean onTarget = DuelResolver.isShotOnTarget(shooter);
+        boolean underPressure = dice.rollPercent(35);
+        boolean onTarget = dice.chance(profile.shotAccuracy(attackingSide, shooter));
         boolean goal = false;
+        double chance = 0.0;
+        summary.recordShot(attackingSide == DuelProfile.HOME, onTarget);
 
         if (onTarget) {
-            double chance = AttributeCalculator.calculateShotSuccessChance(shooter, goalkeeper);
-            if (underPressure) chance -= MatchConfig.PRESSURE_BALANCE_PENALTY;
-            goal = DiceUtil.chance(chance);
+            chance = profile.goalChance(attackingSide, shooter, goalkeeper);
+            if (underPressure) chance -= config.pressureBalancePenalty;
+            goal = dice.chance(chance);
 
             if (goal) {
-                match.scoreGoal(shooter, attacking);
-                logger.log(minute, shooter.getName() + " scores for " + attacking.getName() + "!", silentMode);
-            } else {
-                logger.log(minute, goalkeeper.getName() + " makes a big save for " + defending.getName(), silentMode);
+                if (attackingSide == DuelProfile.HOME) homeGoals++;
+                else awayGoals++;
             }
+        }
+
+        if (!logger.isEnabled()) return;
+
+        if (onTarget) {
+            report(goal ? MatchEventType.GOAL : MatchEventType.SAVE, minute, attackingSide, shooter, goalkeeper, silentMode);
 
             if (debugMode) {
-                String shotLog = DuelResolver.buildShootingDebugLog(shooter, goalkeeper, chance, goal, underPressure);
-                logger.logDebug(minute, shotLog);
+                event.reset(MatchEventType.SHOT_DUEL, minute, attackingSide, shooter, goalkeeper);
+                event.setChance(chance);
+                event.setSuccess(goal);
+                event.setUnderPressure(underPressure);
+                logger.onEvent(event, silentMode);
             }
         } else {
-            logger.log(minute, shooter.getName() + " fires wide!", silentMode);
+            report(MatchEventType.SHOT_WIDE, minute, attackingSide, shooter, -1, silentMode);
             if (debugMode) {
-                logger.logDebug(minute, "\u274C Shot missed by " + shooter.getName());
+                report(MatchEventType.SHOT_MISSED, minute, attackingSide, shooter, -1, silentMode);
             }
         }
     }
 
     /**
-     * Filters out field players (non-goalkeepers) from a team lineup.
+     * Reports an event about the whole match (side {@link DuelProfile#HOME}, no players).
      */
-    private List<Player> getFieldPlayers(Team team) {
-        return team.getStartingLineup().stream()
-                .filter(p -> p.getPosition() != Position.GOALKEEPER)
-                .collect(Collectors.toList());
+    private void report(MatchEventType type, int minute, boolean silentMode) {
+        report(type, minute, DuelProfile.HOME, -1, -1, silentMode);
+    }
+
+    private void report(MatchEventType type, int minute, int side, int actor, int opponent, boolean silentMode) {
+        if (!logger.isEnabled()) return;
+        event.reset(type, minute, side, actor, opponent);
+        event.setGoals(homeGoals, awayGoals);
+        logger.onEvent(event, silentMode);
+    }
+
+    private void compileProfile() {
+        homeLineup = homeTeam.getLineupView();
+        awayLineup = awayTeam.getLineupView();
+        profile.recompile(homeLineup, awayLineup, config);
+    }
+
+    public int getHomeGoals() {
+        return homeGoals;
+    }
+
+    public int getAwayGoals() {
+        return awayGoals;
     }
 }
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.sal.fm.engine;
+
+import com.sal.fm.enums.MatchEventType;
+import com.sal.fm.model.player.Player;
+import com.sal.fm.model.team.Team;
+
+/**
+ * A single event reported by the {@link MatchEngine}: its kind, minute, acting side,
+ * the players involved (as indices into the match's {@link DuelProfile}) and the
+ * numbers behind the duel.
+ *
+ * The engine refills one instance (owned by its {@link MatchContext}) for every event, so reporting
+ * allocates nothing. Sinks must read what they need during the call and not keep the
+ * reference. Text is produced only on request, by {@link MatchCommentary#render}.
+ *
+ * The side is always the acting side: the passing or shooting team, or
+ * {@link DuelProfile#HOME} for events about the whole match.
+ */
+public final class MatchEventRecord {
+
+    private Team homeTeam;
+    private Team awayTeam;
+    private DuelProfile profile;
+
+    private MatchEventType type;
+    private int minute;
+    private int side;
+    private int actor;
+    private int opponent;
+    private double attackerScore;
+    private double defenderScore;
+    private double chance;
+    private boolean success;
+    private boolean underPressure;
+    private int homeGoals;
+    private int awayGoals;
+
+    MatchEventRecord() {
+    }
+
+    void setTeams(Team homeTeam, Team awayTeam) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+    }
+
+    void setProfile(DuelProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Starts a new event, clearing the values of the previous one.
+     */
+    MatchEventRecord reset(MatchEventType type, int minute, int side, int actor, int opponent) {
+        this.type = type;
+        this.minute = minute;
+        this.side = side;
+        this.actor = actor;
+        this.opponent = opponent;
+        this.attackerScore = 0;
+        this.defenderScore = 0;
+        this.chance = 0;
+        this.success = false;
+        this.underPressure = false;
+        return this;
+    }
+
+    void setScores(double attackerScore, double defenderScore) {
+        this.attackerScore = attackerScore;
+        this.defenderScore = defenderScore;
+    }
+
+    void setChance(double chance) {
+        this.chance = chance;
+    }
+
+    void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    void setUnderPressure(boolean underPressure) {
+        this.underPressure = underPressure;
+    }
+
+    void setGoals(int homeGoals, int awayGoals) {
+        this.homeGoals = homeGoals;
+        this.awayGoals = awayGoals;
+    }
+
+    public MatchEventType getType() {
+        return type;
+    }
+
+    public int getMinute() {
+        return minute;
+    }
+
+    /**
+     * @return the acting side ({@link DuelProfile#HOME} or {@link DuelProfile#AWAY})
+     */
+    public int getSide() {
+        return side;
+    }
+
+    /**
+     * @return index of the acting player among the acting side's field players, or -1
+     */
+    public int getActor() {
+        return actor;
+    }
+
+    /**
+     * @return index of the opposing player (field player or goalkeeper, see
+     * {@link MatchEventType#hasKeeperOpponent()}) on the other side, or -1
+     */
+    public int getOpponent() {
+        return opponent;
+    }
+
+    /**
+     * @return pass score of the attacker in a passing duel
+     */
+    public double getAttackerScore() {
+        return attackerScore;
+    }
+
+    /**
+     * @return tackle score of the defender in a passing duel
+     */
+    public double getDefenderScore() {
+        return defenderScore;
+    }
+
+    /**
+     * @return goal chance of a shot that reached the keeper, after any pressure penalty
+     */
+    public double getChance() {
+        return chance;
+    }
+
+    /**
+     * @return whether the pass got through, or the shot went in
+     */
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public boolean isUnderPressure() {
+        return underPressure;
+    }
+
+    public int getHomeGoals() {
+        return homeGoals;
+    }
+
+    public int getAwayGoals() {
+        return awayGoals;
+    }
+
+    public Team getHomeTeam() {
+        return homeTeam;
+    }
+
+    public Team getAwayTeam() {
+        return awayTeam;
+    }
+
+    /**
+     * @return the acting team
+     */
+    public Team getTeam() {
+        return side == DuelProfile.HOME ? homeTeam : awayTeam;
+    }
+
+    /**
+     * @return the team opposing the acting side
+     */
+    public Team getOpposingTeam() {
+        return side == DuelProfile.HOME ? awayTeam : homeTeam;
+    }
+
+    /**
+     * @return the acting player
+     */
+    public Player getActorPlayer() {
+        return profile.fieldPlayer(side, actor);
+    }
+
+    /**
+     * @return the opposing player (the defender, or the goalkeeper for shots on target)
+     */
+    public Player getOpponentPlayer() {
+        int other = DuelProfile.opponent(side);
+        return type.hasKeeperOpponent() ? profile.goalkeeper(other, opponent) : profile.fieldPlayer(other, opponent);
+    }
+}
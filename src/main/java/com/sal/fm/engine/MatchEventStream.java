@@ -0,0 +1,155 @@
+package com.sal.fm.engine;
+
+import com.sal.fm.config.EngineConfig;
+import com.sal.fm.enums.MatchEventType;
+import com.sal.fm.model.team.Team;
+import com.sal.fm.util.MatchEventSink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compact binary encoding of a match's events: a small header followed by
+ * fixed-width {@value #RECORD_SIZE}-byte records, one per {@link MatchEventRecord}.
+ *
+ * <pre>
+ * header  int magic ("FMEV") | short version | short record size
+ * record  byte minute | byte type | byte side | byte actor | byte opponent | byte flags
+ *         | short reserved | int value A | int value B
+ * </pre>
+ *
+ * Value A holds the goal chance of a shot duel or the attacker score of a passing duel,
+ * value B the defender score; both as fixed-point numbers with {@value #FIXED_POINT_SCALE}
+ * units per 1.0. Players are stored as indices into the match's {@link DuelProfile}, and
+ * the scoreline is not stored at all: {@link #replay} recounts it from the goal events.
+ *
+ * Decoding needs the two teams with the lineups they played with, like {@code MatchReplay},
+ * and assumes the match was played with {@link EngineConfig#DEFAULT}.
+ * The stored values are for analytics: to reproduce the commentary byte for byte, {@link #replay}
+ * takes the exact duel values from the recompiled profile instead, since rounding a fixed-point
+ * chance can flip the last printed digit.
+ */
+public class MatchEventStream {
+
+    /** Size of one encoded event in bytes */
+    public static final int RECORD_SIZE = 16;
+    /** Size of the stream header in bytes */
+    public static final int HEADER_SIZE = 8;
+    /** Fixed-point units per 1.0 for chances and duel scores */
+    public static final int FIXED_POINT_SCALE = 1_000_000;
+
+    private static final int MAGIC = 0x464D4556; // "FMEV"
+    private static final short VERSION = 1;
+
+    private static final int FLAG_SUCCESS = 1;
+    private static final int FLAG_UNDER_PRESSURE = 2;
+
+    private static final MatchEventType[] TYPES = MatchEventType.values();
+
+    /**
+     * Writes the stream header.
+     */
+    public static void writeHeader(ByteBuffer out) {
+        out.putInt(MAGIC);
+        out.putShort(VERSION);
+        out.putShort((short) RECORD_SIZE);
+    }
+
+    /**
+     * Appends one event as a fixed-width record.
+     */
+    public static void encode(MatchEventRecord event, ByteBuffer out) {
+        int flags = (event.isSuccess() ? FLAG_SUCCESS : 0) | (event.isUnderPressure() ? FLAG_UNDER_PRESSURE : 0);
+        double valueA = event.getType() == MatchEventType.SHOT_DUEL ? event.getChance() : event.getAttackerScore();
+
+        out.put((byte) event.getMinute());
+        out.put((byte) event.getType().ordinal());
+        out.put((byte) event.getSide());
+        out.put((byte) event.getActor());
+        out.put((byte) event.getOpponent());
+        out.put((byte) flags);
+        out.putShort((short) 0);
+        out.putInt(toFixed(valueA));
+        out.putInt(toFixed(event.getDefenderScore()));
+    }
+
+    /**
+     * Decodes a stream and reports every event to the given sink, as if the match were being played.
+     * Pass an {@code InMemoryMatchLog} to get the commentary and debug lines back as text.
+     *
+     * @param in   the encoded stream, positioned at its header
+     * @param home home team, fielding the lineup it played with
+     * @param away away team, fielding the lineup it played with
+     * @param sink destination of the decoded events
+     * @throws IllegalArgumentException if the stream is not a match event stream
+     */
+    public static void replay(ByteBuffer in, Team home, Team away, MatchEventSink sink) {
+        if (in.remaining() < HEADER_SIZE || in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a match event stream");
+        }
+        short version = in.getShort();
+        int recordSize = in.getShort();
+        if (version != VERSION || recordSize != RECORD_SIZE) {
+            throw new IllegalArgumentException("Unsupported match event stream version " + version);
+        }
+
+        DuelProfile profile = DuelProfile.compile(home.getLineupView(), away.getLineupView());
+        MatchEventRecord event = new MatchEventRecord();
+        event.setTeams(home, away);
+        event.setProfile(profile);
+
+        int homeGoals = 0;
+        int awayGoals = 0;
+
+        while (in.remaining() >= RECORD_SIZE) {
+            int minute = in.get() & 0xFF;
+            MatchEventType type = TYPES[in.get()];
+            int side = in.get();
+            int actor = in.get();
+            int opponent = in.get();
+            int flags = in.get();
+            in.position(in.position() + 2 + 8); // reserved + stored values
+
+            if (type == MatchEventType.GOAL) {
+                if (side == DuelProfile.HOME) homeGoals++;
+                else awayGoals++;
+            }
+
+            event.reset(type, minute, side, actor, opponent);
+            event.setSuccess((flags & FLAG_SUCCESS) != 0);
+            event.setUnderPressure((flags & FLAG_UNDER_PRESSURE) != 0);
+            event.setGoals(homeGoals, awayGoals);
+            if (type == MatchEventType.SHOT_DUEL) {
+                double chance = profile.goalChance(side, actor, opponent);
+                if (event.isUnderPressure()) chance -= EngineConfig.DEFAULT.pressureBalancePenalty;
+                event.setChance(chance);
+            } else if (type == MatchEventType.PASS_DUEL) {
+                event.setScores(profile.passScore(side, actor), profile.tackleScore(DuelProfile.opponent(side), opponent));
+            }
+
+            sink.onEvent(event, true);
+        }
+    }
+
+    /**
+     * Decodes a stream file written by {@code MatchLogger}.
+     *
+     * @see #replay(ByteBuffer, Team, Team, MatchEventSink)
+     */
+    public static void replay(Path file, Team home, Team away, MatchEventSink sink) throws IOException {
+        replay(ByteBuffer.wrap(Files.readAllBytes(file)), home, away, sink);
+    }
+
+    private static int toFixed(double value) {
+        return (int) Math.round(value * FIXED_POINT_SCALE);
+    }
+
+    /**
+     * Converts a stored fixed-point value (value A or B of a record) back to a double.
+     */
+    public static double fromFixed(int value) {
+        return (double) value / FIXED_POINT_SCALE;
+    }
+}
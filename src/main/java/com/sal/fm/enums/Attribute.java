@@ -0,0 +1,61 @@
+package com.sal.fm.enums;
+
+/**
+ * Every player attribute, block by block (technical, physical, mental, hidden, goalkeeping).
+ * The ordinal is the attribute's column in a {@code PlayerAttributeStore}.
+ */
+public enum Attribute {
+    // Technical
+    CORNERS,
+    PENALTY_TAKING,
+    FREE_KICKS,
+    SHOOTING,
+    LONG_SHOTS,
+    HEADING,
+    PASSING,
+    DRIBBLING,
+    TACKLING,
+    TECHNIQUE,
+
+    // Physical
+    PACE,
+    ACCELERATION,
+    BALANCE,
+    STRENGTH,
+    STAMINA,
+    JUMPING_REACH,
+    AGILITY,
+    NATURAL_FITNESS,
+
+    // Mental
+    VISION,
+    COMPOSURE,
+    CONCENTRATION,
+    POSITIONING,
+    DECISIONS,
+    OFF_THE_BALL,
+    AGGRESSION,
+    ANTICIPATION,
+    FLAIR,
+    WORK_RATE,
+
+    // Hidden
+    DETERMINATION,
+    LEADERSHIP,
+    AMBITION,
+    TEAMWORK,
+    PRESSURE_HANDLING,
+    PROFESSIONALISM,
+
+    // Goalkeeping
+    GK_AERIAL_REACH,
+    GK_COMMAND_OF_AREA,
+    GK_COMMUNICATION,
+    GK_HANDLING,
+    GK_KICKING,
+    GK_ONE_ON_ONES,
+    GK_PASSING,
+    GK_REFLEXES,
+    GK_RUSHING_OUT,
+    GK_THROWING
+}
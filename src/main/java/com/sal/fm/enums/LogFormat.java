@@ -0,0 +1,9 @@
+package com.sal.fm.enums;
+
+/**
+ * How {@code MatchLogger} stores a match's events.
+ */
+public enum LogFormat {
+    TEXT,   // match_*.log commentary + debug_*.log duel lines
+    BINARY  // one match_*.evt stream of fixed-width event records
+}
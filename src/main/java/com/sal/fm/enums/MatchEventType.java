@@ -0,0 +1,49 @@
+package com.sal.fm.enums;
+
+/**
+ * Kinds of events the match engine reports to its sink.
+ *
+ * Debug events describe duel internals and go to the debug log; all others are commentary.
+ * For duel events the opponent is either a field player (passing duels) or the opposing
+ * goalkeeper (shots that reach the keeper).
+ */
+public enum MatchEventType {
+    KICK_OFF(false, false),
+    HALF_TIME(false, false),
+    SECOND_HALF(false, false),
+    FULL_TIME(false, false),
+    FINAL_SCORE(false, false),
+
+    BREAKS_PRESS(false, false),
+    WINS_BALL(false, false),
+    BUILDS_MOMENTUM(false, false),
+    GOAL(false, true),
+    SAVE(false, true),
+    SHOT_WIDE(false, false),
+
+    PASS_DUEL(true, false),
+    SHOT_DUEL(true, true),
+    SHOT_MISSED(true, false);
+
+    private final boolean debug;
+    private final boolean keeperOpponent;
+
+    MatchEventType(boolean debug, boolean keeperOpponent) {
+        this.debug = debug;
+        this.keeperOpponent = keeperOpponent;
+    }
+
+    /**
+     * @return true for debug (duel breakdown) events, false for commentary
+     */
+    public boolean isDebug() {
+        return debug;
+    }
+
+    /**
+     * @return true if the event's opponent index refers to a goalkeeper rather than a field player
+     */
+    public boolean hasKeeperOpponent() {
+        return keeperOpponent;
+    }
+}
@@ -1,17 +1,25 @@
 package com.sal.fm.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.sal.fm.model.league.League;
 
+import java.util.List;
+
 /**
  * Represents the persistent state of the game simulation.
- * This object tracks the league, simulation time (day/matchday),
- * and when the last matchday occurred — used to control match timing.
+ * This object tracks the universe (every league of every country), simulation time
+ * (season/day/matchday on one calendar shared by all leagues), and when the last
+ * matchday occurred — used to control match timing.
+ *
+ * {@link #getLeague()} is the home league, the one the menus show.
  */
 public class GameState {
 
-    private League league;              // The active league and its teams/matches
+    private Universe universe = new Universe(); // Every league, home league first
+    private int season = 1;             // Current season number
     private int currentDay;             // Current in-game day (increments over time)
-    private int currentMatchday;        // The next matchday to be simulated (1–22)
+    private int currentMatchday;        // The next matchday to be simulated (1 to the season length)
     private int lastMatchdayDay = 0;    // The day on which the last matchday was played
 
     /**
@@ -21,22 +29,62 @@ public class GameState {
     }
 
     /**
-     * Constructs a fully initialized GameState.
+     * Constructs a fully initialized GameState with a single league.
      *
      * @param league           the active league
      * @param currentDay       the current simulation day
      * @param currentMatchday  the next scheduled matchday
      */
     public GameState(League league, int currentDay, int currentMatchday) {
-        this.league = league;
+        this(new Universe(List.of(league)), currentDay, currentMatchday);
+    }
+
+    /**
+     * Constructs a fully initialized GameState.
+     *
+     * @param universe         every league of the game, home league first
+     * @param currentDay       the current simulation day
+     * @param currentMatchday  the next scheduled matchday
+     */
+    public GameState(Universe universe, int currentDay, int currentMatchday) {
+        this.universe = universe;
         this.currentDay = currentDay;
         this.currentMatchday = currentMatchday;
     }
 
     // === Getters ===
 
+    public Universe getUniverse() {
+        return universe;
+    }
+
+    /**
+     * @return the home league
+     */
+    @JsonIgnore
     public League getLeague() {
-        return league;
+        return universe.getHomeLeague();
+    }
+
+    /**
+     * @return the divisions of the home league's country, top division first
+     */
+    @JsonIgnore
+    public List<League> getDivisions() {
+        League home = getLeague();
+        return home == null ? List.of() : universe.getDivisions(home.getCountry());
+    }
+
+    /**
+     * @return the number of matchdays in the season: the longest league calendar
+     */
+    @JsonIgnore
+    public int getSeasonLength() {
+        return universe.getSeasonLength();
+    }
+
+    public int getSeason() {
+        return season;
     }
 
     public int getCurrentDay() {
@@ -53,8 +101,33 @@ public class GameState {
 
     // === Setters ===
 
+    public void setUniverse(Universe universe) {
+        this.universe = universe;
+    }
+
+    /**
+     * Replaces the universe with a single league. Also reads saves from before divisions,
+     * which stored one {@code league}.
+     */
+    @JsonProperty("league")
     public void setLeague(League league) {
-        this.league = league;
+        this.universe = new Universe(List.of(league));
+    }
+
+    /**
+     * Replaces the universe with one country's divisions, top division first. Also reads saves
+     * from before the universe, which stored the {@code divisions} of a single country.
+     */
+    @JsonProperty("divisions")
+    public void setDivisions(List<League> divisions) {
+        for (int i = 0; i < divisions.size(); i++) {
+            divisions.get(i).setTier(i + 1);
+        }
+        this.universe = new Universe(divisions);
+    }
+
+    public void setSeason(int season) {
+        this.season = season;
     }
 
     public void setCurrentDay(int currentDay) {
@@ -1,38 +1,58 @@
 package com.sal.fm.model;
 
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sal.fm.config.EngineConfig;
+import com.sal.fm.engine.MatchContext;
 import com.sal.fm.engine.MatchEngine;
 import com.sal.fm.model.player.Player;
 import com.sal.fm.model.team.Team;
+import com.sal.fm.util.Dice;
+import com.sal.fm.util.IdSequence;
+import com.sal.fm.util.MatchEventSink;
+import com.sal.fm.util.MatchLogSegment;
 import com.sal.fm.util.MatchLogger;
 
-import java.util.UUID;
-
 /**
  * Represents a match between two teams, including simulation logic.
  * Handles match progression, goal scoring, and logging.
+ * Teams are saved by reference (their name), not embedded in every fixture.
  */
 public class Match {
 
+    @JsonIdentityReference(alwaysAsId = true)
     private Team homeTeam;
+    @JsonIdentityReference(alwaysAsId = true)
     private Team awayTeam;
 
     private int teamAScore = 0;
     private int teamBScore = 0;
+    private long seed; // Seed of the random stream the match was played with — enough to replay it
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private long[] homeLineup; // Ids of the home starting lineup the match was played with, in lineup order
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private long[] awayLineup; // Ids of the away starting lineup the match was played with, in lineup order
 
-    private int round; // Matchday number (1–22)
+    private int round; // Matchday number (1 to the league's round count)
+    private int leg; // 1 for the first run of the calendar, 2 for the reversed run
+    private int fixtureId; // Index of the fixture in the league calendar, used to derive its random stream
 
     @JsonProperty("played")
     private boolean isPlayed; // Whether the match has already been simulated
 
     private boolean silentMode = false; // Controls logging verbosity
+    private boolean headlessMode = false; // Result-only simulation: no logs, no files
     private int currentMinute = 0;
 
-    private final String matchId = UUID.randomUUID().toString(); // Unique ID used for log file naming
-    private MatchLogger logger;
-    private MatchEngine engine;
+    private long matchId; // Unique within the universe (assigned when its league joins one); names logs and keys segment indexes
 
-    private static final int MATCH_DURATION_MINUTES = 40; // Total match time (2x20 mins)
+    /** Ids of matches started outside a universe, handed out negated so they never clash with universe ids */
+    private static final IdSequence standaloneIds = new IdSequence();
+    private MatchEventSink logger;
+    private MatchEngine engine;
+    private final MatchSummary summary = new MatchSummary(); // Shots/passes counters filled by the engine
 
     private boolean debugMode = true;
 
@@ -56,57 +76,90 @@ public class Match {
         this.round = 0;
     }
 
+    /**
+     * Starts and simulates the match with a fresh random seed.
+     * Used for one-off matches (e.g. debug matches) that aren't part of a league calendar.
+     */
+    public void startMatch() {
+        startMatch(Dice.newSeed());
+    }
+
     /**
      * Starts and simulates the match in two halves.
      * Logs match events via MatchLogger and resolves events using MatchEngine.
+     * In headless mode events go to {@link MatchEventSink#NONE} and no log files are created.
+     *
+     * @param seed seed of the random stream this match draws from; stored so the match can be replayed
      */
-    public void startMatch() {
-        logger = new MatchLogger(matchId);
-        engine = new MatchEngine(this, logger, debugMode);
+    public void startMatch(long seed) {
+        assignStandaloneId();
+        startMatch(seed, headlessMode ? MatchEventSink.NONE : new MatchLogger(Long.toString(matchId)));
+    }
+
+    /**
+     * Simulates the match, appending its logs to a shared matchday segment instead of per-match files.
+     * In headless mode nothing is written.
+     *
+     * @param seed    seed of the random stream this match draws from
+     * @param segment segment receiving this match's logs
+     */
+    public void startMatch(long seed, MatchLogSegment segment) {
+        assignStandaloneId();
+        startMatch(seed, headlessMode ? MatchEventSink.NONE : new MatchLogger(Long.toString(matchId), segment));
+    }
+
+    /**
+     * Simulates the match, sending all commentary and debug events to the given sink.
+     * The same seed and lineups always produce the same events and final score.
+     *
+     * @param seed seed of the random stream this match draws from
+     * @param sink destination for commentary and debug lines
+     */
+    public void startMatch(long seed, MatchEventSink sink) {
+        this.seed = seed;
+        homeLineup = lineupIds(homeTeam);
+        awayLineup = lineupIds(awayTeam);
+        logger = sink;
+        MatchContext context = new MatchContext(new Dice(seed), EngineConfig.DEFAULT, logger, debugMode);
+        engine = new MatchEngine(this, context);
+        int minutesPerHalf = context.getConfig().minutesPerHalf;
+        teamAScore = 0;
+        teamBScore = 0;
+        summary.reset();
 
         currentMinute = 0;
-        logger.log(currentMinute, "Kick-off! " + homeTeam.getName() + " vs " + awayTeam.getName(), silentMode);
+        engine.kickOff(currentMinute, silentMode);
 
-        // First Half (20 simulated minutes)
-        for (int i = 0; i < 20; i++) {
+        // First Half (minutesPerHalf simulated minutes, from the engine config)
+        for (int i = 0; i < minutesPerHalf; i++) {
             engine.simulateMinute(currentMinute, silentMode);
             currentMinute++;
         }
+        updateScore();
 
-        logger.log(currentMinute, "⏸ Halftime: " + homeTeam.getName() + " " + teamAScore + " - " + teamBScore + " " + awayTeam.getName(), silentMode);
-        logger.log(currentMinute, "▶ Second Half Begins!", silentMode);
+        engine.halfTime(currentMinute, silentMode);
 
-        // Second Half (20 simulated minutes)
-        for (int i = 0; i < 20; i++) {
+        // Second Half (minutesPerHalf simulated minutes)
+        for (int i = 0; i < minutesPerHalf; i++) {
             engine.simulateMinute(currentMinute, silentMode);
             currentMinute++;
         }
+        updateScore();
 
-        displayFinalScore();
+        engine.fullTime(currentMinute, silentMode);
         logger.close();
     }
 
-    /**
-     * Increments the score for the appropriate team when a goal is scored.
-     *
-     * @param shooter the player who scored (not used here, but logged elsewhere)
-     * @param team    the team to assign the goal to
-     */
-    public void scoreGoal(Player shooter, Team team) {
-        if (team == homeTeam) {
-            teamAScore++;
-        } else {
-            teamBScore++;
-        }
+    private static long[] lineupIds(Team team) {
+        return team.getStartingLineup().stream().mapToLong(Player::getId).toArray();
     }
 
     /**
-     * Logs the final score and match end.
+     * Copies the goals counted by the engine into the match score.
      */
-    private void displayFinalScore() {
-        logger.log(currentMinute, "🔚 Full-time!", silentMode);
-        logger.log(currentMinute, "Final Score: " + homeTeam.getName() + " " + teamAScore +
-                " - " + teamBScore + " " + awayTeam.getName(), silentMode);
+    private void updateScore() {
+        teamAScore = engine.getHomeGoals();
+        teamBScore = engine.getAwayGoals();
     }
 
     /**
@@ -124,6 +177,21 @@ public class Match {
         this.silentMode = true;
     }
 
+    /**
+     * Enables headless mode — the match produces only its result and summary counters.
+     * No commentary or debug lines are built and the filesystem is never touched.
+     */
+    public void enableHeadlessMode() {
+        this.headlessMode = true;
+        this.silentMode = true;
+        this.debugMode = false;
+    }
+
+    @JsonIgnore
+    public boolean isHeadlessMode() {
+        return headlessMode;
+    }
+
     // === Getters and Setters ===
 
     public Team getHomeTeam() {
@@ -134,6 +202,14 @@ public class Match {
         return awayTeam;
     }
 
+    public void setHomeTeam(Team homeTeam) {
+        this.homeTeam = homeTeam;
+    }
+
+    public void setAwayTeam(Team awayTeam) {
+        this.awayTeam = awayTeam;
+    }
+
     public int getRound() {
         return round;
     }
@@ -146,10 +222,77 @@ public class Match {
         return teamBScore;
     }
 
+    /**
+     * Gives a match that was never numbered by a universe (a debug match, a standalone league)
+     * a process-wide unique negative id before its {@link MatchLogger} is named after it, so
+     * its logs and segment keys don't collide. A universe the match joins later renumbers it.
+     */
+    private void assignStandaloneId() {
+        if (matchId == 0) {
+            matchId = -standaloneIds.next();
+        }
+    }
+
+    /**
+     * @return id of this match, unique within its universe; negative for a match started with its
+     *         own logs outside one, 0 until then. Its decimal form names the log files and keys
+     *         the logs in a matchday segment
+     */
+    public long getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(long matchId) {
+        this.matchId = matchId;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return ids of the home starting lineup the match was played with, or null if it hasn't been
+     *         played (or was saved before lineups were stored)
+     */
+    public long[] getHomeLineup() {
+        return homeLineup;
+    }
+
+    /**
+     * @return ids of the away starting lineup the match was played with, or null like {@link #getHomeLineup()}
+     */
+    public long[] getAwayLineup() {
+        return awayLineup;
+    }
+
+    public MatchSummary getSummary() {
+        return summary;
+    }
+
     public void setRound(int round) {
         this.round = round;
     }
 
+    public int getLeg() {
+        return leg;
+    }
+
+    public void setLeg(int leg) {
+        this.leg = leg;
+    }
+
+    public int getFixtureId() {
+        return fixtureId;
+    }
+
+    public void setFixtureId(int fixtureId) {
+        this.fixtureId = fixtureId;
+    }
+
     public boolean isPlayed() {
         return isPlayed;
     }
@@ -167,7 +310,7 @@ public class Match {
      */
     @Override
     public String toString() {
-        String run = (round <= 11) ? "Run 1" : "Run 2";
+        String run = (leg == 2) ? "Run 2" : "Run 1";
         return String.format("Matchday %02d [%s]: %s vs %s", round, run, homeTeam.getName(), awayTeam.getName());
     }
 }
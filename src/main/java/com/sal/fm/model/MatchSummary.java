@@ -0,0 +1,100 @@
+package com.sal.fm.model;
+
+/**
+ * Aggregated counters for a single simulated match.
+ * Filled in by the match engine regardless of logging mode, so headless
+ * simulations still produce a usable summary alongside the final score.
+ */
+public class MatchSummary {
+
+    private int homePasses;           // Pass duels attempted by the home team
+    private int awayPasses;           // Pass duels attempted by the away team
+    private int homePassesCompleted;  // Pass duels won by the home team
+    private int awayPassesCompleted;  // Pass duels won by the away team
+    private int homeShots;            // Shots taken by the home team
+    private int awayShots;            // Shots taken by the away team
+    private int homeShotsOnTarget;    // Home shots that required a save or went in
+    private int awayShotsOnTarget;    // Away shots that required a save or went in
+
+    /**
+     * Default constructor required for Jackson deserialization.
+     */
+    public MatchSummary() {
+    }
+
+    /**
+     * Records the outcome of a pass duel.
+     *
+     * @param home      whether the home team attempted the pass
+     * @param completed whether the pass beat the defender
+     */
+    public void recordPass(boolean home, boolean completed) {
+        if (home) {
+            homePasses++;
+            if (completed) homePassesCompleted++;
+        } else {
+            awayPasses++;
+            if (completed) awayPassesCompleted++;
+        }
+    }
+
+    /**
+     * Records a shot attempt.
+     *
+     * @param home     whether the home team took the shot
+     * @param onTarget whether the shot was on target
+     */
+    public void recordShot(boolean home, boolean onTarget) {
+        if (home) {
+            homeShots++;
+            if (onTarget) homeShotsOnTarget++;
+        } else {
+            awayShots++;
+            if (onTarget) awayShotsOnTarget++;
+        }
+    }
+
+    /**
+     * Resets all counters, e.g. before a match is simulated again.
+     */
+    public void reset() {
+        homePasses = awayPasses = 0;
+        homePassesCompleted = awayPassesCompleted = 0;
+        homeShots = awayShots = 0;
+        homeShotsOnTarget = awayShotsOnTarget = 0;
+    }
+
+    // === Getters ===
+
+    public int getHomePasses() {
+        return homePasses;
+    }
+
+    public int getAwayPasses() {
+        return awayPasses;
+    }
+
+    public int getHomePassesCompleted() {
+        return homePassesCompleted;
+    }
+
+    public int getAwayPassesCompleted() {
+        return awayPassesCompleted;
+    }
+
+    public int getHomeShots() {
+        return homeShots;
+    }
+
+    public int getAwayShots() {
+        return awayShots;
+    }
+
+    public int getHomeShotsOnTarget() {
+        return homeShotsOnTarget;
+    }
+
+    public int getAwayShotsOnTarget() {
+        return awayShotsOnTarget;
+    }
+}
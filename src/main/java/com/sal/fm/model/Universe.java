@@ -0,0 +1,233 @@
+package com.sal.fm.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sal.fm.model.league.League;
+import com.sal.fm.model.player.HeapAttributeStore;
+import com.sal.fm.model.player.MappedAttributeStore;
+import com.sal.fm.model.player.Player;
+import com.sal.fm.model.player.PlayerAttributeStore;
+import com.sal.fm.model.team.Team;
+import com.sal.fm.util.IdSequence;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every league of the game world: one or more countries, each with its own divisions,
+ * all advancing on the shared calendar of the {@link GameState}.
+ *
+ * Leagues are stored country by country, top division first. The first league is the
+ * home league, the one the menus show. Leagues share no teams or matches, so their
+ * matchdays can be simulated side by side without coordination.
+ *
+ * The attributes of every player in the universe are packed into one
+ * {@link PlayerAttributeStore} by {@link #packPlayers()}. A universe on a
+ * {@link MappedAttributeStore} saves the file's path and its players' rows, and reopens the
+ * file when loaded ({@link #restoreAttributeStore}) instead of packing them again.
+ *
+ * Player and match ids are dense numbers from two per-universe sequences. Players get theirs
+ * when generated ({@link #nextPlayerId()}); matches when their league is added to the universe
+ * (matches started before that carry a provisional negative id, see {@link Match#getMatchId()}).
+ * Ids found in added leagues (e.g. from a save) move the sequences past them.
+ */
+public class Universe {
+
+    private List<League> leagues = new ArrayList<>();
+
+    @JsonIgnore
+    private PlayerAttributeStore attributeStore;
+    @JsonIgnore
+    private String attributeStoreFile; // Mapped store a loaded save refers to, until restoreAttributeStore
+    @JsonIgnore
+    private final IdSequence playerIds = new IdSequence();
+    @JsonIgnore
+    private final IdSequence matchIds = new IdSequence();
+
+    /**
+     * Default constructor required for Jackson deserialization.
+     */
+    public Universe() {
+        this(new HeapAttributeStore());
+    }
+
+    /**
+     * Creates an empty universe whose players will be packed into the given store.
+     */
+    public Universe(PlayerAttributeStore attributeStore) {
+        this.attributeStore = attributeStore;
+    }
+
+    /**
+     * @param leagues the leagues, country by country, top division first
+     */
+    public Universe(List<League> leagues) {
+        this();
+        this.leagues = new ArrayList<>(leagues);
+        registerIds();
+    }
+
+    public List<League> getLeagues() {
+        return leagues;
+    }
+
+    /**
+     * Replaces the leagues, giving ids to matches that have none yet.
+     *
+     * @param leagues the leagues, country by country, top division first
+     */
+    public void setLeagues(List<League> leagues) {
+        this.leagues = new ArrayList<>(leagues);
+        registerIds();
+    }
+
+    /**
+     * @return a new player id, unique within this universe
+     */
+    public long nextPlayerId() {
+        return playerIds.next();
+    }
+
+    /**
+     * Reserves a block of consecutive player ids, e.g. for bulk generation.
+     *
+     * @return the first id of the block
+     */
+    public long reservePlayerIds(long count) {
+        return playerIds.reserve(count);
+    }
+
+    /**
+     * Moves the id sequences past every id in the leagues, then numbers the matches that have
+     * no universe id yet (0, or the negative id of a match started outside a universe).
+     */
+    private void registerIds() {
+        for (League league : leagues) {
+            for (Team team : league.getTeams()) {
+                for (Player player : team.getPlayers()) {
+                    playerIds.advancePast(player.getId());
+                }
+            }
+            for (Match match : league.getMatches()) {
+                matchIds.advancePast(match.getMatchId());
+            }
+        }
+        for (League league : leagues) {
+            for (Match match : league.getMatches()) {
+                if (match.getMatchId() <= 0) { // Unnumbered, or numbered outside a universe
+                    match.setMatchId(matchIds.next());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the store holding the attributes of every packed player
+     */
+    @JsonIgnore
+    public PlayerAttributeStore getAttributeStore() {
+        return attributeStore;
+    }
+
+    /**
+     * Packs the attributes of every player of every league into the universe's store.
+     * Players already packed are left alone, so it is safe to call again after adding teams.
+     */
+    public void packPlayers() {
+        for (League league : leagues) {
+            for (Team team : league.getTeams()) {
+                for (Player player : team.getPlayers()) {
+                    player.packInto(attributeStore);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finishes loading a saved universe. A universe saved with a {@link MappedAttributeStore}
+     * reopens that file and points every player at the row it was saved with, without reading
+     * or copying any attributes. Players saved with their stats (heap stores, older saves) are
+     * packed into the store as before.
+     *
+     * @param readOnly whether to map the store file read-only, e.g. to share it between
+     *                 processes; player stats cannot be changed then
+     * @throws IOException if the store file cannot be opened or lacks rows the save refers to
+     */
+    public void restoreAttributeStore(boolean readOnly) throws IOException {
+        if (attributeStoreFile != null) {
+            attributeStore = MappedAttributeStore.open(Path.of(attributeStoreFile), readOnly);
+            attributeStoreFile = null;
+        }
+
+        for (League league : leagues) {
+            for (Team team : league.getTeams()) {
+                for (Player player : team.getPlayers()) {
+                    try {
+                        if (!player.attachTo(attributeStore)) {
+                            player.packInto(attributeStore);
+                        }
+                    } catch (IndexOutOfBoundsException e) {
+                        throw new IOException("Player attribute store has no row for player " + player.getId(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * File of the universe's store as saved, for stores whose rows are kept in a file.
+     * Relative paths are resolved against the working directory when the save is loaded.
+     */
+    @JsonProperty("attributeStoreFile")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String getAttributeStoreFile() {
+        return attributeStore instanceof MappedAttributeStore mapped ? mapped.getFile().toString() : null;
+    }
+
+    @JsonProperty("attributeStoreFile")
+    private void setAttributeStoreFile(String attributeStoreFile) {
+        this.attributeStoreFile = attributeStoreFile;
+    }
+
+    /**
+     * @return the home league (top division of the first country)
+     */
+    @JsonIgnore
+    public League getHomeLeague() {
+        return leagues.isEmpty() ? null : leagues.get(0);
+    }
+
+    /**
+     * @return the divisions of every country, top division first, countries in universe order
+     */
+    @JsonIgnore
+    public Map<String, List<League>> getCountries() {
+        Map<String, List<League>> countries = new LinkedHashMap<>();
+        for (League league : leagues) {
+            countries.computeIfAbsent(league.getCountry(), c -> new ArrayList<>()).add(league);
+        }
+        countries.values().forEach(divisions -> divisions.sort(Comparator.comparingInt(League::getTier)));
+        return countries;
+    }
+
+    /**
+     * @return the divisions of one country, top division first
+     */
+    public List<League> getDivisions(String country) {
+        return getCountries().getOrDefault(country, List.of());
+    }
+
+    /**
+     * @return the number of matchdays in the season: the longest league calendar
+     */
+    @JsonIgnore
+    public int getSeasonLength() {
+        return leagues.stream().mapToInt(League::getRoundCount).max().orElse(0);
+    }
+}
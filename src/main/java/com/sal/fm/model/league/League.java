@@ -1,20 +1,48 @@
 package com.sal.fm.model.league;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.sal.fm.model.Match;
 import com.sal.fm.model.team.Team;
+import com.sal.fm.util.Dice;
 
 import java.util.*;
 
 /**
- * Represents a League containing exactly 12 teams and a generated
- * season schedule of 22 rounds (double round-robin).
+ * Represents a League (one division) of any number of teams and a generated
+ * season schedule (double round-robin).
  *
- * Each team plays every other team twice: once home, once away.
+ * Each team plays every other team twice: once home, once away. The season length follows
+ * from the calendar ({@link #getRoundCount()}): 2(N-1) rounds for N teams, or 2N rounds
+ * when N is odd and every team has a bye once per run.
+ *
+ * The league seed determines every match: fixture N draws from stream N of the seed,
+ * so a season replays identically regardless of simulation order or thread count.
+ *
+ * Saved in normalized form: teams (with their players) are written once, before the
+ * matches, and every match refers to its teams by name.
+ *
+ * The league owns its {@link LeagueStandings}: results enter the table as they are
+ * recorded through {@link #recordResult(Match)}, and the table is saved with the league.
  */
+@JsonPropertyOrder({"name", "country", "tier", "seed", "teams", "matches", "standings"})
 public class League {
 
+    /** Country of leagues created without one (and of saves from before countries) */
+    public static final String DEFAULT_COUNTRY = "Home";
+
+    private String name;
+    private String country = DEFAULT_COUNTRY; // Country whose pyramid the league belongs to
+    private int tier = 1;                     // Division level within the country, 1 = top
     private List<Team> teams;
     private List<Match> matches;
+    private long seed; // Root of all per-fixture random streams
+    @JsonProperty
+    private LeagueStandings standings; // Current table, updated on every recorded result
+
+    @JsonIgnore
+    private volatile FixtureIndex fixtureIndex; // Fixtures by round and by team, rebuilt when the match list changes
 
     /**
      * Default constructor required by Jackson for deserialization.
@@ -25,19 +53,59 @@ public class League {
     }
 
     /**
-     * Constructs a League with a given set of 12 teams.
-     * Automatically generates the full season calendar (22 matchdays).
+     * Constructs a League with the given teams.
+     * Automatically generates the full season calendar.
      *
-     * @param teams List of exactly 12 teams
-     * @throws IllegalArgumentException if the team count is not 12
+     * @param teams the teams (at least 2, with distinct names)
+     * @param seed  seed from which every fixture's random stream is derived
+     * @throws IllegalArgumentException if there are fewer than 2 teams or duplicate names
      */
-    public League(List<Team> teams) {
-        if (teams.size() != 12) {
-            throw new IllegalArgumentException("League must have exactly 12 teams.");
+    public League(List<Team> teams, long seed) {
+        this("League", teams, seed);
+    }
+
+    /**
+     * Constructs a named League (e.g. a division) with the given teams.
+     * Automatically generates the full season calendar.
+     *
+     * @param name  display name of the league
+     * @param teams the teams (at least 2, with distinct names)
+     * @param seed  seed from which every fixture's random stream is derived
+     * @throws IllegalArgumentException if there are fewer than 2 teams or duplicate names
+     */
+    public League(String name, List<Team> teams, long seed) {
+        if (teams.size() < 2) {
+            throw new IllegalArgumentException("League must have at least 2 teams.");
         }
+        if (teams.stream().map(Team::getName).distinct().count() != teams.size()) {
+            throw new IllegalArgumentException("League teams must have distinct names.");
+        }
+        this.name = name;
         this.teams = new ArrayList<>(teams);
+        this.seed = seed;
         this.matches = new ArrayList<>();
         generateCalendar();
+        this.standings = new LeagueStandings(this.teams);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public int getTier() {
+        return tier;
+    }
+
+    public void setTier(int tier) {
+        this.tier = tier;
     }
 
     public List<Match> getMatches() {
@@ -49,33 +117,167 @@ public class League {
     }
 
     /**
-     * Generates a 22-round double round-robin schedule using a round-robin algorithm.
+     * Returns the fixtures of one round, in calendar order.
      *
-     * - Run 1: each team plays all others once (home/away randomized)
+     * @param round the matchday number (1-based)
+     * @return the round's fixtures (read-only), or an empty list if there is no such round
+     */
+    public List<Match> getFixtures(int round) {
+        List<List<Match>> rounds = fixtureIndex().byRound;
+        return round >= 1 && round <= rounds.size() ? rounds.get(round - 1) : List.of();
+    }
+
+    /**
+     * Returns every fixture of one team, in calendar order.
+     *
+     * @param team a team of this league
+     * @return the team's fixtures (read-only), or an empty list if it has none
+     */
+    public List<Match> getFixtures(Team team) {
+        return fixtureIndex().byTeam.getOrDefault(team.getName(), List.of());
+    }
+
+    /**
+     * @return the number of rounds in the calendar
+     */
+    @JsonIgnore
+    public int getRoundCount() {
+        return fixtureIndex().byRound.size();
+    }
+
+    /**
+     * Returns the fixture index, rebuilding it if matches were added or removed since it was built.
+     * Building it is a single pass over the calendar.
+     */
+    private FixtureIndex fixtureIndex() {
+        FixtureIndex index = fixtureIndex;
+        if (index == null || index.size != matches.size()) {
+            synchronized (this) {
+                index = fixtureIndex;
+                if (index == null || index.size != matches.size()) {
+                    index = new FixtureIndex(matches);
+                    fixtureIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the league table. Leagues loaded from saves without standings, or assembled
+     * without going through {@link #recordResult(Match)}, get theirs rebuilt from the played matches once.
+     *
+     * @return the current standings
+     */
+    public synchronized LeagueStandings getStandings() {
+        if (standings == null || !standings.covers(teams)) {
+            standings = LeagueStandings.rebuild(teams, matches);
+        }
+        return standings;
+    }
+
+    /**
+     * Marks a fixture as played and adds its result to the table.
+     * Safe to call from concurrently simulated matches.
+     *
+     * @param match a fixture of this league that has just been simulated
+     * @throws IllegalStateException if the match was already recorded
+     */
+    public void recordResult(Match match) {
+        LeagueStandings table = getStandings();
+        synchronized (match) {
+            if (match.isPlayed()) {
+                throw new IllegalStateException("Result already recorded: " + match);
+            }
+            match.markAsPlayed();
+        }
+        table.record(match);
+    }
+
+    /**
+     * Makes every match and lineup point at the league's own team and player instances.
+     * Saves in the normalized format already load this way; older saves embedded a copy
+     * of both teams in every match, which this re-links after loading. Also fills in the legs,
+     * fixture ids and seed that older saves lack.
+     */
+    public void linkReferences() {
+        Map<String, Team> byName = new HashMap<>();
+        for (Team team : teams) {
+            byName.put(team.getName(), team);
+            team.linkLineup();
+        }
+
+        for (Match match : matches) {
+            match.setHomeTeam(byName.getOrDefault(match.getHomeTeam().getName(), match.getHomeTeam()));
+            match.setAwayTeam(byName.getOrDefault(match.getAwayTeam().getName(), match.getAwayTeam()));
+        }
+
+        // Saves from before legs were stored: the first half of the rounds is run 1
+        int firstLegRounds = getRoundCount() / 2;
+        for (Match match : matches) {
+            if (match.getLeg() == 0) {
+                match.setLeg(match.getRound() <= firstLegRounds ? 1 : 2);
+            }
+        }
+
+        // Saves from before fixture streams: every fixture id loads as 0 and the seed as 0,
+        // which would play every remaining fixture from the same stream
+        if (matches.size() > 1 && matches.stream().allMatch(match -> match.getFixtureId() == 0)) {
+            for (int i = 0; i < matches.size(); i++) {
+                matches.get(i).setFixtureId(i);
+            }
+        }
+        if (seed == 0) {
+            seed = Dice.newSeed();
+        }
+
+        if (standings != null) {
+            standings.link(teams);
+        }
+    }
+
+    /**
+     * Returns the seed of the given fixture's random stream, derived from the league seed and fixture id.
+     *
+     * @param match a fixture of this league
+     * @return the seed to play the fixture with
+     */
+    public long seedFor(Match match) {
+        return Dice.streamSeed(seed, match.getFixtureId());
+    }
+
+    /**
+     * Generates a double round-robin schedule with the circle method: one slot stays fixed
+     * while the other teams rotate one place per round, so every pair meets exactly once per run.
+     * With an odd number of teams the fixed slot is a bye, and the team drawn against it
+     * sits the round out.
+     *
+     * - Run 1: each team plays all others once
      * - Run 2: same matchups with reversed home/away
      */
     private void generateCalendar() {
         int numTeams = teams.size();
 
-        if (numTeams % 2 != 0) {
-            throw new IllegalArgumentException("Number of teams must be even.");
-        }
-
         List<Team> rotation = new ArrayList<>(teams);
-        Team fixedTeam = rotation.remove(0); // One team is fixed in the rotation
-        int totalRounds = numTeams - 1;
-        int matchesPerRound = numTeams / 2;
+        Team fixedTeam = (numTeams % 2 == 0) ? rotation.remove(0) : null; // One slot is fixed; null is a bye
+        int totalRounds = rotation.size();
+        int pairingsPerRound = (rotation.size() + 1) / 2;
 
         matches.clear();
 
         // == First Run ==
         for (int round = 0; round < totalRounds; round++) {
-            Set<Team> usedInRound = new HashSet<>();
-
-            for (int matchIndex = 0; matchIndex < matchesPerRound; matchIndex++) {
+            for (int matchIndex = 0; matchIndex < pairingsPerRound; matchIndex++) {
                 Team home, away;
 
                 if (matchIndex == 0) {
+                    if (fixedTeam == null) {
+                        continue; // rotation.get(round) has a bye this round
+                    }
                     // Alternate fixed team as home/away to balance
                     home = (round % 2 == 0) ? fixedTeam : rotation.get(round % rotation.size());
                     away = (round % 2 == 0) ? rotation.get(round % rotation.size()) : fixedTeam;
@@ -89,6 +291,7 @@ public class League {
 
                 Match match = new Match(home, away);
                 match.setRound(round + 1);
+                match.setLeg(1);
                 matches.add(match);
             }
         }
@@ -98,26 +301,65 @@ public class League {
                 .map(m -> {
                     Match reversed = new Match(m.getAwayTeam(), m.getHomeTeam());
                     reversed.setRound(m.getRound() + totalRounds);
+                    reversed.setLeg(2);
                     return reversed;
                 })
                 .toList();
 
         matches.addAll(run2);
 
+        // Fixture ids identify each match's random stream
+        for (int i = 0; i < matches.size(); i++) {
+            matches.get(i).setFixtureId(i);
+        }
+
         // == Validation: Ensure no duplicate team per round ==
-        for (int r = 1; r <= totalRounds * 2; r++) {
-            final int roundNumber = r;
+        for (List<Match> matchesInRound : fixtureIndex().byRound) {
             Set<Team> used = new HashSet<>();
-            List<Match> matchesInRound = matches.stream()
-                    .filter(m -> m.getRound() == roundNumber)
-                    .toList();
 
             for (Match m : matchesInRound) {
                 if (!used.add(m.getHomeTeam()) || !used.add(m.getAwayTeam())) {
-                    System.out.println("❌ Duplicate team in round " + roundNumber + ": " +
+                    System.out.println("❌ Duplicate team in round " + m.getRound() + ": " +
                             m.getHomeTeam().getName() + " vs " + m.getAwayTeam().getName());
                 }
             }
         }
     }
+
+    /**
+     * Fixtures grouped by round and by team name, each group in calendar order.
+     */
+    private static final class FixtureIndex {
+        private final int size;
+        private final List<List<Match>> byRound;
+        private final Map<String, List<Match>> byTeam;
+
+        FixtureIndex(List<Match> matches) {
+            this.size = matches.size();
+
+            int rounds = 0;
+            for (Match match : matches) {
+                rounds = Math.max(rounds, match.getRound());
+            }
+
+            List<List<Match>> roundLists = new ArrayList<>(rounds);
+            for (int r = 0; r < rounds; r++) {
+                roundLists.add(new ArrayList<>());
+            }
+            Map<String, List<Match>> teamLists = new HashMap<>();
+
+            for (Match match : matches) {
+                if (match.getRound() >= 1) {
+                    roundLists.get(match.getRound() - 1).add(match);
+                }
+                teamLists.computeIfAbsent(match.getHomeTeam().getName(), k -> new ArrayList<>()).add(match);
+                teamLists.computeIfAbsent(match.getAwayTeam().getName(), k -> new ArrayList<>()).add(match);
+            }
+
+            roundLists.replaceAll(Collections::unmodifiableList);
+            teamLists.replaceAll((name, list) -> Collections.unmodifiableList(list));
+            this.byRound = Collections.unmodifiableList(roundLists);
+            this.byTeam = teamLists;
+        }
+    }
 }
@@ -0,0 +1,334 @@
+package com.sal.fm.model.league;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.sal.fm.model.Match;
+import com.sal.fm.model.team.Team;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * The league table, kept up to date as results come in instead of being rebuilt from every match.
+ *
+ * Recording a result updates the two teams' rows and their head-to-head record, then moves
+ * both rows to their new place, so the ranked table is always ready to read. A row only swaps
+ * past the rows it overtakes, and only the runs of tied teams it leaves or joins are re-ordered.
+ *
+ * Ranking: points, goal difference, goals scored. Teams level on all three are separated by
+ * the points, then the goal difference, they took from the matches between themselves, and
+ * finally by name (see {@link #orderByHeadToHead}, shared with the season forecaster).
+ *
+ * Saved with the league (rows plus head-to-head matrices), so a loaded game has its table
+ * without replaying results.
+ */
+@JsonPropertyOrder({"table", "headToHeadPoints", "headToHeadGoals"})
+public class LeagueStandings {
+
+    @JsonProperty
+    private List<LeagueTableEntry> table;  // Ranked, best first
+    @JsonProperty
+    private int[][] headToHeadPoints;      // [team][opponent] points the team took from that opponent
+    @JsonProperty
+    private int[][] headToHeadGoals;       // [team][opponent] goals the team scored against that opponent
+
+    @JsonIgnore
+    private final Map<String, LeagueTableEntry> byName = new HashMap<>();
+    @JsonIgnore
+    private final Map<String, Integer> indexByName = new HashMap<>(); // Row/column of each team in the matrices
+    @JsonIgnore
+    private int[] positionOf = new int[0]; // Table position of each team, by matrix index
+
+    /**
+     * Default constructor required by Jackson for deserialization.
+     */
+    public LeagueStandings() {
+        this.table = new ArrayList<>();
+    }
+
+    /**
+     * Creates an empty table for the given teams, ranked by name until results come in.
+     *
+     * @param teams the league's teams; their order fixes the head-to-head matrix indices
+     */
+    public LeagueStandings(List<Team> teams) {
+        this.table = new ArrayList<>();
+        for (Team team : teams) {
+            table.add(new LeagueTableEntry(team));
+        }
+        this.headToHeadPoints = new int[teams.size()][teams.size()];
+        this.headToHeadGoals = new int[teams.size()][teams.size()];
+        relink(teams);
+        if (!table.isEmpty()) {
+            resolveRun(table.get(0)); // Everyone is level: rank by name
+        }
+    }
+
+    /**
+     * Builds the table of a league from its played matches. Used for leagues saved before
+     * standings were part of the save.
+     */
+    public static LeagueStandings rebuild(List<Team> teams, List<Match> matches) {
+        LeagueStandings standings = new LeagueStandings(teams);
+        for (Match match : matches) {
+            if (match.isPlayed()) {
+                standings.record(match);
+            }
+        }
+        return standings;
+    }
+
+    /**
+     * Points the rows at the league's own team instances and rebuilds the lookup maps.
+     * Called after loading, with the teams in the order the table was created with.
+     */
+    synchronized void link(List<Team> teams) {
+        relink(teams);
+    }
+
+    private void relink(List<Team> teams) {
+        byName.clear();
+        indexByName.clear();
+        for (int i = 0; i < teams.size(); i++) {
+            indexByName.put(teams.get(i).getName(), i);
+        }
+        positionOf = new int[teams.size()];
+        for (int position = 0; position < table.size(); position++) {
+            LeagueTableEntry entry = table.get(position);
+            byName.put(entry.getTeam().getName(), entry);
+            Integer index = indexByName.get(entry.getTeam().getName());
+            if (index != null) {
+                entry.setTeam(teams.get(index));
+                positionOf[index] = position;
+            }
+        }
+    }
+
+    /**
+     * @return whether this table has a row for every one of the given teams
+     */
+    boolean covers(List<Team> teams) {
+        return table.size() == teams.size()
+                && headToHeadPoints != null
+                && teams.stream().allMatch(t -> byName.containsKey(t.getName()));
+    }
+
+    /**
+     * Adds a played match to the table and re-ranks the two teams involved.
+     *
+     * @param match a played match between two teams of this table
+     */
+    public synchronized void record(Match match) {
+        LeagueTableEntry home = entry(match.getHomeTeam());
+        LeagueTableEntry away = entry(match.getAwayTeam());
+        int homeGoals = match.getTeamAScore();
+        int awayGoals = match.getTeamBScore();
+
+        // Teams the two rows are level with now; their mini-league may change once a row leaves
+        LeagueTableEntry homeRunMate = leftBehind(home, away);
+        LeagueTableEntry awayRunMate = leftBehind(away, home);
+
+        home.recordResult(homeGoals, awayGoals);
+        away.recordResult(awayGoals, homeGoals);
+
+        int h = indexOf(home);
+        int a = indexOf(away);
+        headToHeadPoints[h][a] += LeagueTableEntry.pointsFor(homeGoals, awayGoals);
+        headToHeadPoints[a][h] += LeagueTableEntry.pointsFor(awayGoals, homeGoals);
+        headToHeadGoals[h][a] += homeGoals;
+        headToHeadGoals[a][h] += awayGoals;
+
+        reposition(home, away);
+        reposition(away, null);
+        resolveRun(home);
+        resolveRun(away);
+        if (homeRunMate != null) {
+            resolveRun(homeRunMate);
+        }
+        if (awayRunMate != null) {
+            resolveRun(awayRunMate);
+        }
+    }
+
+    /**
+     * @return the ranked table, best first (read-only view, updated in place as results come in)
+     */
+    @JsonIgnore
+    public List<LeagueTableEntry> getRanking() {
+        return Collections.unmodifiableList(table);
+    }
+
+    /**
+     * @return the table row of a team, or null if it isn't in this league
+     */
+    public LeagueTableEntry getEntry(Team team) {
+        return byName.get(team.getName());
+    }
+
+    /**
+     * @return the 1-based table position of a team
+     */
+    public synchronized int getPosition(Team team) {
+        return positionOf[indexOf(entry(team))] + 1;
+    }
+
+    /**
+     * Orders teams level on points, goal difference and goals scored: by the points, then the
+     * goal difference, they took from the matches among themselves, then by name. Used by the
+     * table and by the season forecaster, so both break ties the same way.
+     *
+     * @param tied             matrix indices of the tied teams; sorted in place, best first
+     * @param headToHeadPoints [team][opponent] points the team took from that opponent
+     * @param headToHeadGoals  [team][opponent] goals the team scored against that opponent
+     * @param nameOf           name of the team at a matrix index
+     */
+    public static void orderByHeadToHead(int[] tied, int[][] headToHeadPoints, int[][] headToHeadGoals,
+                                         IntFunction<String> nameOf) {
+        int n = tied.length;
+        int[] points = new int[n];
+        int[] goalDifference = new int[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                points[i] += headToHeadPoints[tied[i]][tied[j]];
+                goalDifference[i] += headToHeadGoals[tied[i]][tied[j]] - headToHeadGoals[tied[j]][tied[i]];
+            }
+            order[i] = i;
+        }
+
+        Arrays.sort(order, Comparator.<Integer>comparingInt(i -> -points[i])
+                .thenComparingInt(i -> -goalDifference[i])
+                .thenComparing(i -> nameOf.apply(tied[i])));
+
+        int[] sorted = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = tied[order[i]];
+        }
+        System.arraycopy(sorted, 0, tied, 0, n);
+    }
+
+    private LeagueTableEntry entry(Team team) {
+        LeagueTableEntry entry = byName.get(team.getName());
+        if (entry == null) {
+            throw new IllegalArgumentException("Team not in this table: " + team.getName());
+        }
+        return entry;
+    }
+
+    private int indexOf(LeagueTableEntry entry) {
+        return indexByName.get(entry.getTeam().getName());
+    }
+
+    /**
+     * Returns a team tied with {@code entry} that stays behind when it moves, if removing
+     * {@code entry} can change how they are ordered, i.e. it has played one of them. Null otherwise.
+     * Called before the result is applied.
+     */
+    private LeagueTableEntry leftBehind(LeagueTableEntry entry, LeagueTableEntry opponent) {
+        int index = indexOf(entry);
+        int start = runStart(positionOf[index]);
+        int end = runEnd(positionOf[index]);
+        LeagueTableEntry mate = null;
+        boolean played = false;
+        for (int position = start; position < end; position++) {
+            LeagueTableEntry other = table.get(position);
+            if (other == entry || other == opponent) {
+                continue;
+            }
+            int o = indexOf(other);
+            played |= headToHeadPoints[index][o] + headToHeadPoints[o][index] > 0;
+            mate = other;
+        }
+        return played ? mate : null;
+    }
+
+    /**
+     * Swaps a row up or down past the rows its points, goal difference and goals scored
+     * overtake (or fall behind). Its order among teams level on all three is settled by
+     * {@link #resolveRun}.
+     *
+     * @param pending the other row of the result, not repositioned yet (or null): it may be out
+     *                of place, so this row moves past it regardless and it sorts itself out after
+     */
+    private void reposition(LeagueTableEntry entry, LeagueTableEntry pending) {
+        int position = positionOf[indexOf(entry)];
+        while (position > 0 && (table.get(position - 1) == pending
+                || compareRecord(entry, table.get(position - 1)) < 0)) {
+            swap(position, position - 1);
+            position--;
+        }
+        while (position < table.size() - 1 && (table.get(position + 1) == pending
+                || compareRecord(entry, table.get(position + 1)) > 0)) {
+            swap(position, position + 1);
+            position++;
+        }
+    }
+
+    private void swap(int i, int j) {
+        LeagueTableEntry a = table.get(i);
+        LeagueTableEntry b = table.get(j);
+        table.set(i, b);
+        table.set(j, a);
+        positionOf[indexOf(a)] = j;
+        positionOf[indexOf(b)] = i;
+    }
+
+    /**
+     * Orders the run of teams level with the given row on points, goal difference and goals
+     * scored by their head-to-head mini-league, then by name.
+     */
+    private void resolveRun(LeagueTableEntry entry) {
+        int position = positionOf[indexOf(entry)];
+        int start = runStart(position);
+        int end = runEnd(position);
+        if (end - start < 2) {
+            return;
+        }
+
+        int[] tied = new int[end - start];
+        for (int i = 0; i < tied.length; i++) {
+            tied[i] = indexOf(table.get(start + i));
+        }
+        orderByHeadToHead(tied, headToHeadPoints, headToHeadGoals, i -> table.get(positionOf[i]).getTeam().getName());
+
+        LeagueTableEntry[] rows = new LeagueTableEntry[tied.length];
+        for (int i = 0; i < tied.length; i++) {
+            rows[i] = table.get(positionOf[tied[i]]);
+        }
+        for (int i = 0; i < rows.length; i++) {
+            table.set(start + i, rows[i]);
+            positionOf[tied[i]] = start + i;
+        }
+    }
+
+    private int runStart(int position) {
+        int start = position;
+        while (start > 0 && compareRecord(table.get(start - 1), table.get(position)) == 0) {
+            start--;
+        }
+        return start;
+    }
+
+    private int runEnd(int position) {
+        int end = position + 1;
+        while (end < table.size() && compareRecord(table.get(end), table.get(position)) == 0) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Compares two rows by points, goal difference and goals scored, better first.
+     */
+    private static int compareRecord(LeagueTableEntry a, LeagueTableEntry b) {
+        int result = Integer.compare(b.getPoints(), a.getPoints());
+        if (result == 0) {
+            result = Integer.compare(b.getGoalDifference(), a.getGoalDifference());
+        }
+        if (result == 0) {
+            result = Integer.compare(b.getGoalsScored(), a.getGoalsScored());
+        }
+        return result;
+    }
+}
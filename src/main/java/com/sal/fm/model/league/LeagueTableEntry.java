@@ -1,14 +1,18 @@
 package com.sal.fm.model.league;
 
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.sal.fm.model.team.Team;
 
 /**
  * Represents a row in the league table (standings).
  * Tracks performance stats like wins, losses, goals, and points.
+ * Saved as part of {@link LeagueStandings}, referring to its team by name.
  */
 public class LeagueTableEntry {
 
-    private final Team team;
+    @JsonIdentityReference(alwaysAsId = true)
+    private Team team;
     private int played;
     private int wins;
     private int draws;
@@ -16,6 +20,12 @@ public class LeagueTableEntry {
     private int goalsScored;
     private int goalsAgainst;
 
+    /**
+     * Default constructor required by Jackson for deserialization.
+     */
+    private LeagueTableEntry() {
+    }
+
     /**
      * Creates a new entry for the given team with zeroed stats.
      *
@@ -28,14 +38,13 @@ public class LeagueTableEntry {
     /**
      * Updates the table entry based on the outcome of a single match.
      *
-     * @param scored      number of goals this team scored
-     * @param conceded    number of goals this team conceded
-     * @param isHomeTeam  whether this team was home (true) or away (false)
+     * @param scored   number of goals this team scored
+     * @param conceded number of goals this team conceded
      */
-    public void recordResult(int scored, int conceded, boolean isHomeTeam) {
+    public void recordResult(int scored, int conceded) {
         played++;
-        goalsScored += isHomeTeam ? scored : conceded;
-        goalsAgainst += isHomeTeam ? conceded : scored;
+        goalsScored += scored;
+        goalsAgainst += conceded;
 
         if (scored > conceded) {
             wins++;
@@ -46,10 +55,21 @@ public class LeagueTableEntry {
         }
     }
 
+    /**
+     * Points a team earns from a single result: 3 for a win, 1 for a draw.
+     */
+    public static int pointsFor(int scored, int conceded) {
+        return scored > conceded ? 3 : scored == conceded ? 1 : 0;
+    }
+
     public Team getTeam() {
         return team;
     }
 
+    void setTeam(Team team) {
+        this.team = team;
+    }
+
     public int getPlayed() {
         return played;
     }
@@ -74,12 +94,18 @@ public class LeagueTableEntry {
         return goalsAgainst;
     }
 
+    @JsonIgnore
+    public int getGoalDifference() {
+        return goalsScored - goalsAgainst;
+    }
+
     /**
      * Computes and returns the points earned by this team.
      * 3 points per win, 1 per draw.
      *
      * @return total points
      */
+    @JsonIgnore
     public int getPoints() {
         return (wins * 3) + draws;
     }
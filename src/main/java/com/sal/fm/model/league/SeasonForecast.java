@@ -0,0 +1,112 @@
+package com.sal.fm.model.league;
+
+import com.sal.fm.model.team.Team;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Result of a Monte Carlo season forecast: for every team, the probability of
+ * finishing in each table position plus expected points and a points interval.
+ */
+public class SeasonForecast {
+
+    private final int iterations;
+    private final List<TeamForecast> teams;
+
+    /**
+     * @param iterations number of simulated seasons the forecast is based on
+     * @param teams      one forecast per team, in any order
+     */
+    public SeasonForecast(int iterations, List<TeamForecast> teams) {
+        this.iterations = iterations;
+        this.teams = teams.stream()
+                .sorted(Comparator.comparingDouble(TeamForecast::getExpectedPoints).reversed())
+                .toList();
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return team forecasts sorted by expected points (descending)
+     */
+    public List<TeamForecast> getTeams() {
+        return teams;
+    }
+
+    /**
+     * Forecast for a single team.
+     */
+    public static class TeamForecast {
+
+        private final Team team;
+        private final double[] positionProbabilities; // Index 0 = 1st place
+        private final double expectedPoints;
+        private final int pointsLow;                  // 5th percentile of final points
+        private final int pointsHigh;                 // 95th percentile of final points
+        private final int relegationSpots;
+
+        public TeamForecast(Team team, double[] positionProbabilities, double expectedPoints,
+                            int pointsLow, int pointsHigh, int relegationSpots) {
+            this.team = team;
+            this.positionProbabilities = positionProbabilities;
+            this.expectedPoints = expectedPoints;
+            this.pointsLow = pointsLow;
+            this.pointsHigh = pointsHigh;
+            this.relegationSpots = relegationSpots;
+        }
+
+        public Team getTeam() {
+            return team;
+        }
+
+        /**
+         * @param position final table position, starting at 1
+         * @return probability of finishing in that position
+         */
+        public double getPositionProbability(int position) {
+            return positionProbabilities[position - 1];
+        }
+
+        public double getExpectedPoints() {
+            return expectedPoints;
+        }
+
+        /**
+         * @return lower bound of the 90% interval of final points
+         */
+        public int getPointsLow() {
+            return pointsLow;
+        }
+
+        /**
+         * @return upper bound of the 90% interval of final points
+         */
+        public int getPointsHigh() {
+            return pointsHigh;
+        }
+
+        public double getTitleProbability() {
+            return positionProbabilities[0];
+        }
+
+        public double getTopHalfProbability() {
+            return sumPositions(0, positionProbabilities.length / 2);
+        }
+
+        public double getRelegationProbability() {
+            int n = positionProbabilities.length;
+            return sumPositions(Math.max(0, n - relegationSpots), n);
+        }
+
+        private double sumPositions(int from, int to) {
+            double sum = 0;
+            for (int i = from; i < to; i++) {
+                sum += positionProbabilities[i];
+            }
+            return sum;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.sal.fm.model.player;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sal.fm.enums.Attribute;
 
 /**
  * Represents a set of goalkeeping-specific attributes for a player.
@@ -20,6 +21,11 @@ public class GoalkeepingAttributes {
     private int rushingOut;
     private int throwing;
 
+    @JsonIgnore
+    private PlayerAttributeStore store; // Set when this block is a view of a store row
+    @JsonIgnore
+    private int row;
+
     /**
      * Default constructor required for Jackson deserialization.
      */
@@ -55,6 +61,14 @@ public class GoalkeepingAttributes {
         this.throwing = throwing;
     }
 
+    /**
+     * Creates a view of one row of a {@link PlayerAttributeStore}; every getter reads the store.
+     */
+    GoalkeepingAttributes(PlayerAttributeStore store, int row) {
+        this.store = store;
+        this.row = row;
+    }
+
     /**
      * Computes a simplified average rating of the goalkeeper's most relevant attributes.
      *
@@ -63,11 +77,11 @@ public class GoalkeepingAttributes {
     @JsonIgnore
     public int getAverage() {
         int sum =
-                aerialReach +
-                        ((commandOfArea + communication) / 2) +
-                        ((handling + kicking + passing + throwing) / 4) +
-                        oneOnOnes +
-                        reflexes;
+                getAerialReach() +
+                        ((getCommandOfArea() + getCommunication()) / 2) +
+                        ((getHandling() + getKicking() + getPassing() + getThrowing()) / 4) +
+                        getOneOnOnes() +
+                        getReflexes();
 
         return sum / 5;
     }
@@ -75,42 +89,62 @@ public class GoalkeepingAttributes {
     // === Getters ===
 
     public int getAerialReach() {
-        return aerialReach;
+        return value(Attribute.GK_AERIAL_REACH, aerialReach);
     }
 
     public int getCommandOfArea() {
-        return commandOfArea;
+        return value(Attribute.GK_COMMAND_OF_AREA, commandOfArea);
     }
 
     public int getCommunication() {
-        return communication;
+        return value(Attribute.GK_COMMUNICATION, communication);
     }
 
     public int getHandling() {
-        return handling;
+        return value(Attribute.GK_HANDLING, handling);
     }
 
     public int getKicking() {
-        return kicking;
+        return value(Attribute.GK_KICKING, kicking);
     }
 
     public int getOneOnOnes() {
-        return oneOnOnes;
+        return value(Attribute.GK_ONE_ON_ONES, oneOnOnes);
     }
 
     public int getPassing() {
-        return passing;
+        return value(Attribute.GK_PASSING, passing);
     }
 
     public int getReflexes() {
-        return reflexes;
+        return value(Attribute.GK_REFLEXES, reflexes);
     }
 
     public int getRushingOut() {
-        return rushingOut;
+        return value(Attribute.GK_RUSHING_OUT, rushingOut);
     }
 
     public int getThrowing() {
-        return throwing;
+        return value(Attribute.GK_THROWING, throwing);
+    }
+
+    /**
+     * Writes this block's values into a store row.
+     */
+    void copyTo(PlayerAttributeStore store, int row) {
+        store.set(row, Attribute.GK_AERIAL_REACH, getAerialReach());
+        store.set(row, Attribute.GK_COMMAND_OF_AREA, getCommandOfArea());
+        store.set(row, Attribute.GK_COMMUNICATION, getCommunication());
+        store.set(row, Attribute.GK_HANDLING, getHandling());
+        store.set(row, Attribute.GK_KICKING, getKicking());
+        store.set(row, Attribute.GK_ONE_ON_ONES, getOneOnOnes());
+        store.set(row, Attribute.GK_PASSING, getPassing());
+        store.set(row, Attribute.GK_REFLEXES, getReflexes());
+        store.set(row, Attribute.GK_RUSHING_OUT, getRushingOut());
+        store.set(row, Attribute.GK_THROWING, getThrowing());
+    }
+
+    private int value(Attribute attribute, int own) {
+        return store == null ? own : store.get(row, attribute);
     }
 }
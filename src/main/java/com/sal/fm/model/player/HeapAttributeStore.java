@@ -0,0 +1,75 @@
+package com.sal.fm.model.player;
+
+import com.sal.fm.enums.Attribute;
+
+import java.util.Arrays;
+
+/**
+ * {@link PlayerAttributeStore} backed by one byte array per attribute, grown by half when full.
+ */
+public class HeapAttributeStore extends PlayerAttributeStore {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private volatile byte[][] columns; // Indexed by Attribute ordinal, then row
+    private int size;
+
+    /**
+     * Creates an empty store with room for {@value #DEFAULT_CAPACITY} players before it grows.
+     */
+    public HeapAttributeStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty store.
+     *
+     * @param capacity number of players it holds before it grows
+     */
+    public HeapAttributeStore(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1, got " + capacity);
+        }
+        columns = new byte[ATTRIBUTE_COUNT][capacity];
+    }
+
+    @Override
+    public int get(int row, Attribute attribute) {
+        return columns[attribute.ordinal()][row] & 0xFF;
+    }
+
+    @Override
+    public synchronized int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean isPersistent() {
+        return false;
+    }
+
+    @Override
+    int allocate(int count) {
+        int first = size;
+        int needed = Math.addExact(size, count);
+        if (needed > columns[0].length) {
+            grow(needed);
+        }
+        size = needed;
+        return first;
+    }
+
+    @Override
+    void write(int row, Attribute attribute, byte value) {
+        columns[attribute.ordinal()][row] = value;
+    }
+
+    private void grow(int needed) {
+        int capacity = Math.max(needed, columns[0].length + (columns[0].length >> 1) + 1);
+        byte[][] grown = new byte[ATTRIBUTE_COUNT][];
+        for (int i = 0; i < ATTRIBUTE_COUNT; i++) {
+            grown[i] = Arrays.copyOf(columns[i], capacity);
+        }
+        columns = grown;
+    }
+}
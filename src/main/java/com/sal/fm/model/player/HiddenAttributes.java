@@ -1,5 +1,8 @@
 package com.sal.fm.model.player;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sal.fm.enums.Attribute;
+
 /**
  * Represents hidden or personality-related attributes for a player.
  * These traits influence behavior under pressure, leadership, and long-term potential.
@@ -15,6 +18,11 @@ public class HiddenAttributes {
     private int pressureHandling;    // Composure and performance under stressful conditions
     private int professionalism;     // Work ethic, discipline, and training behavior
 
+    @JsonIgnore
+    private PlayerAttributeStore store; // Set when this block is a view of a store row
+    @JsonIgnore
+    private int row;
+
     /**
      * Default constructor required for Jackson deserialization.
      */
@@ -41,29 +49,53 @@ public class HiddenAttributes {
         this.professionalism = professionalism;
     }
 
+    /**
+     * Creates a view of one row of a {@link PlayerAttributeStore}; every getter reads the store.
+     */
+    HiddenAttributes(PlayerAttributeStore store, int row) {
+        this.store = store;
+        this.row = row;
+    }
+
     // === Getters ===
 
     public int getDetermination() {
-        return determination;
+        return value(Attribute.DETERMINATION, determination);
     }
 
     public int getLeadership() {
-        return leadership;
+        return value(Attribute.LEADERSHIP, leadership);
     }
 
     public int getAmbition() {
-        return ambition;
+        return value(Attribute.AMBITION, ambition);
     }
 
     public int getTeamwork() {
-        return teamwork;
+        return value(Attribute.TEAMWORK, teamwork);
     }
 
     public int getPressureHandling() {
-        return pressureHandling;
+        return value(Attribute.PRESSURE_HANDLING, pressureHandling);
     }
 
     public int getProfessionalism() {
-        return professionalism;
+        return value(Attribute.PROFESSIONALISM, professionalism);
+    }
+
+    /**
+     * Writes this block's values into a store row.
+     */
+    void copyTo(PlayerAttributeStore store, int row) {
+        store.set(row, Attribute.DETERMINATION, getDetermination());
+        store.set(row, Attribute.LEADERSHIP, getLeadership());
+        store.set(row, Attribute.AMBITION, getAmbition());
+        store.set(row, Attribute.TEAMWORK, getTeamwork());
+        store.set(row, Attribute.PRESSURE_HANDLING, getPressureHandling());
+        store.set(row, Attribute.PROFESSIONALISM, getProfessionalism());
+    }
+
+    private int value(Attribute attribute, int own) {
+        return store == null ? own : store.get(row, attribute);
     }
 }
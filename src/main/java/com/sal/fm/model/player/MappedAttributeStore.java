@@ -0,0 +1,180 @@
+package com.sal.fm.model.player;
+
+import com.sal.fm.enums.Attribute;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link PlayerAttributeStore} kept in a memory-mapped file instead of on the heap.
+ *
+ * The file holds a 64-byte header followed by one column of {@code capacity} bytes per
+ * {@link Attribute}, in the same layout as {@link HeapAttributeStore}. Opening a store maps the
+ * file without reading it; the OS pages columns in as they are touched, so a database of tens of
+ * millions of players opens instantly. Several processes can open the same file read-only and
+ * share its pages. Rows written are visible to other mappings of the file at once; call
+ * {@link #force()} to make them durable.
+ *
+ * Capacity is fixed when the file is created and cannot exceed {@link #MAX_CAPACITY} players
+ * (one mapping is limited to 2 GB).
+ */
+public class MappedAttributeStore extends PlayerAttributeStore {
+
+    private static final int MAGIC = 0x464D5041; // "FMPA"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int ATTRIBUTES_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 12;
+    private static final int SIZE_OFFSET = 16;
+
+    /**
+     * Largest number of players one file can hold.
+     */
+    public static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_BYTES) / ATTRIBUTE_COUNT;
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final boolean readOnly;
+
+    private MappedAttributeStore(Path file, MappedByteBuffer buffer, int capacity, boolean readOnly) {
+        this.file = file;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Creates an empty store file, replacing any existing one.
+     *
+     * @param file     path of the file
+     * @param capacity number of players it can hold
+     * @throws IllegalArgumentException if capacity is below 1 or above {@link #MAX_CAPACITY}
+     * @throws IOException              if the file cannot be created or mapped
+     */
+    public static MappedAttributeStore create(Path file, int capacity) throws IOException {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY + ", got " + capacity);
+        }
+
+        long length = HEADER_BYTES + (long) ATTRIBUTE_COUNT * capacity;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            buffer.putInt(MAGIC_OFFSET, MAGIC);
+            buffer.putInt(VERSION_OFFSET, FORMAT_VERSION);
+            buffer.putInt(ATTRIBUTES_OFFSET, ATTRIBUTE_COUNT);
+            buffer.putInt(CAPACITY_OFFSET, capacity);
+            buffer.putInt(SIZE_OFFSET, 0);
+            return new MappedAttributeStore(file, buffer, capacity, false);
+        }
+    }
+
+    /**
+     * Opens an existing store file. Nothing is read beyond the header.
+     *
+     * @param file     path of the file
+     * @param readOnly whether to map it read-only (rows cannot be added or changed then)
+     * @throws IOException if the file cannot be mapped or is not a store of this format
+     */
+    public static MappedAttributeStore open(Path file, boolean readOnly) throws IOException {
+        FileChannel.MapMode mode = readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+        StandardOpenOption[] options = readOnly
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE};
+
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a player attribute store: " + file);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+                throw new IOException("Not a player attribute store: " + file);
+            }
+            if (header.getInt(VERSION_OFFSET) != FORMAT_VERSION
+                    || header.getInt(ATTRIBUTES_OFFSET) != ATTRIBUTE_COUNT) {
+                throw new IOException("Unsupported player attribute store format in " + file);
+            }
+
+            int capacity = header.getInt(CAPACITY_OFFSET);
+            long length = HEADER_BYTES + (long) ATTRIBUTE_COUNT * capacity;
+            if (capacity < 1 || capacity > MAX_CAPACITY || channel.size() < length) {
+                throw new IOException("Player attribute store is truncated: " + file);
+            }
+            return new MappedAttributeStore(file, channel.map(mode, 0, length), capacity, readOnly);
+        }
+    }
+
+    @Override
+    public int get(int row, Attribute attribute) {
+        return buffer.get(offset(row, attribute)) & 0xFF;
+    }
+
+    @Override
+    public int getSize() {
+        return buffer.getInt(SIZE_OFFSET);
+    }
+
+    /**
+     * @return number of players the file can hold
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    @Override
+    public boolean isPersistent() {
+        return true;
+    }
+
+    /**
+     * Writes changed pages back to the file.
+     */
+    @Override
+    public void force() {
+        if (!readOnly) {
+            buffer.force();
+        }
+    }
+
+    @Override
+    int allocate(int count) {
+        checkWritable();
+        int size = getSize();
+        if (count > capacity - size) {
+            throw new IllegalStateException("Player attribute store is full (" + capacity + " players): " + file);
+        }
+        buffer.putInt(SIZE_OFFSET, size + count);
+        return size;
+    }
+
+    @Override
+    void write(int row, Attribute attribute, byte value) {
+        checkWritable();
+        buffer.put(offset(row, attribute), value);
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new IllegalStateException("Player attribute store is open read-only: " + file);
+        }
+    }
+
+    private int offset(int row, Attribute attribute) {
+        return HEADER_BYTES + attribute.ordinal() * capacity + row;
+    }
+}
@@ -1,6 +1,7 @@
 package com.sal.fm.model.player;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sal.fm.enums.Attribute;
 
 /**
  * Represents a player's mental skillset, affecting decision-making,
@@ -21,6 +22,11 @@ public class MentalAttributes {
     private int flair;            // Willingness to attempt creative or risky moves
     private int workRate;         // Effort level throughout the match (affects fitness/momentum bonuses)
 
+    @JsonIgnore
+    private PlayerAttributeStore store; // Set when this block is a view of a store row
+    @JsonIgnore
+    private int row;
+
     /**
      * Default constructor (required by Jackson for JSON deserialization).
      */
@@ -55,46 +61,54 @@ public class MentalAttributes {
         this.workRate = workRate;
     }
 
+    /**
+     * Creates a view of one row of a {@link PlayerAttributeStore}; every getter reads the store.
+     */
+    MentalAttributes(PlayerAttributeStore store, int row) {
+        this.store = store;
+        this.row = row;
+    }
+
     // === Getters ===
 
     public int getVision() {
-        return vision;
+        return value(Attribute.VISION, vision);
     }
 
     public int getComposure() {
-        return composure;
+        return value(Attribute.COMPOSURE, composure);
     }
 
     public int getConcentration() {
-        return concentration;
+        return value(Attribute.CONCENTRATION, concentration);
     }
 
     public int getDecisions() {
-        return decisions;
+        return value(Attribute.DECISIONS, decisions);
     }
 
     public int getOffTheBall() {
-        return offTheBall;
+        return value(Attribute.OFF_THE_BALL, offTheBall);
     }
 
     public int getAggression() {
-        return aggression;
+        return value(Attribute.AGGRESSION, aggression);
     }
 
     public int getAnticipation() {
-        return anticipation;
+        return value(Attribute.ANTICIPATION, anticipation);
     }
 
     public int getFlair() {
-        return flair;
+        return value(Attribute.FLAIR, flair);
     }
 
     public int getWorkRate() {
-        return workRate;
+        return value(Attribute.WORK_RATE, workRate);
     }
 
     public int getPositioning() {
-        return positioning;
+        return value(Attribute.POSITIONING, positioning);
     }
 
     /**
@@ -105,17 +119,37 @@ public class MentalAttributes {
     @JsonIgnore
     public int getAverage() {
         int sum =
-                vision +
-                        composure +
-                        concentration +
-                        positioning +
-                        decisions +
-                        offTheBall +
-                        aggression +
-                        anticipation +
-                        flair +
-                        workRate;
+                getVision() +
+                        getComposure() +
+                        getConcentration() +
+                        getPositioning() +
+                        getDecisions() +
+                        getOffTheBall() +
+                        getAggression() +
+                        getAnticipation() +
+                        getFlair() +
+                        getWorkRate();
 
         return sum / 10;
     }
+
+    /**
+     * Writes this block's values into a store row.
+     */
+    void copyTo(PlayerAttributeStore store, int row) {
+        store.set(row, Attribute.VISION, getVision());
+        store.set(row, Attribute.COMPOSURE, getComposure());
+        store.set(row, Attribute.CONCENTRATION, getConcentration());
+        store.set(row, Attribute.POSITIONING, getPositioning());
+        store.set(row, Attribute.DECISIONS, getDecisions());
+        store.set(row, Attribute.OFF_THE_BALL, getOffTheBall());
+        store.set(row, Attribute.AGGRESSION, getAggression());
+        store.set(row, Attribute.ANTICIPATION, getAnticipation());
+        store.set(row, Attribute.FLAIR, getFlair());
+        store.set(row, Attribute.WORK_RATE, getWorkRate());
+    }
+
+    private int value(Attribute attribute, int own) {
+        return store == null ? own : store.get(row, attribute);
+    }
 }
@@ -1,6 +1,7 @@
 package com.sal.fm.model.player;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sal.fm.enums.Attribute;
 
 /**
  * Represents a player's physical characteristics.
@@ -19,6 +20,11 @@ public class PhysicalAttributes {
     private int agility;          // Quick changes in direction and reaction
     private int naturalFitness;   // Long-term conditioning and recovery rate
 
+    @JsonIgnore
+    private PlayerAttributeStore store; // Set when this block is a view of a store row
+    @JsonIgnore
+    private int row;
+
     /**
      * Default constructor (required for Jackson serialization).
      */
@@ -49,38 +55,46 @@ public class PhysicalAttributes {
         this.naturalFitness = naturalFitness;
     }
 
+    /**
+     * Creates a view of one row of a {@link PlayerAttributeStore}; every getter reads the store.
+     */
+    PhysicalAttributes(PlayerAttributeStore store, int row) {
+        this.store = store;
+        this.row = row;
+    }
+
     // === Getters ===
 
     public int getPace() {
-        return pace;
+        return value(Attribute.PACE, pace);
     }
 
     public int getAcceleration() {
-        return acceleration;
+        return value(Attribute.ACCELERATION, acceleration);
     }
 
     public int getBalance() {
-        return balance;
+        return value(Attribute.BALANCE, balance);
     }
 
     public int getStrength() {
-        return strength;
+        return value(Attribute.STRENGTH, strength);
     }
 
     public int getStamina() {
-        return stamina;
+        return value(Attribute.STAMINA, stamina);
     }
 
     public int getJumpingReach() {
-        return jumpingReach;
+        return value(Attribute.JUMPING_REACH, jumpingReach);
     }
 
     public int getAgility() {
-        return agility;
+        return value(Attribute.AGILITY, agility);
     }
 
     public int getNaturalFitness() {
-        return naturalFitness;
+        return value(Attribute.NATURAL_FITNESS, naturalFitness);
     }
 
     /**
@@ -91,15 +105,33 @@ public class PhysicalAttributes {
     @JsonIgnore
     public int getAverage() {
         int sum =
-                pace +
-                        acceleration +
-                        balance +
-                        strength +
-                        stamina +
-                        jumpingReach +
-                        agility +
-                        naturalFitness;
+                getPace() +
+                        getAcceleration() +
+                        getBalance() +
+                        getStrength() +
+                        getStamina() +
+                        getJumpingReach() +
+                        getAgility() +
+                        getNaturalFitness();
 
         return sum / 8;
     }
+
+    /**
+     * Writes this block's values into a store row.
+     */
+    void copyTo(PlayerAttributeStore store, int row) {
+        store.set(row, Attribute.PACE, getPace());
+        store.set(row, Attribute.ACCELERATION, getAcceleration());
+        store.set(row, Attribute.BALANCE, getBalance());
+        store.set(row, Attribute.STRENGTH, getStrength());
+        store.set(row, Attribute.STAMINA, getStamina());
+        store.set(row, Attribute.JUMPING_REACH, getJumpingReach());
+        store.set(row, Attribute.AGILITY, getAgility());
+        store.set(row, Attribute.NATURAL_FITNESS, getNaturalFitness());
+    }
+
+    private int value(Attribute attribute, int own) {
+        return store == null ? own : store.get(row, attribute);
+    }
 }
@@ -1,52 +1,105 @@
 package com.sal.fm.model.player;
 
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import com.sal.fm.enums.Position;
+import com.sal.fm.model.team.Team;
+import com.sal.fm.util.SharedObjectIdResolver;
 
-import java.util.UUID;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Represents a player in the simulation, including their position,
  * name, age, stats, and injury status.
  *
- * Each player has a unique UUID and is evaluated based on their position-specific ratings.
+ * Each player has a numeric id, unique within its universe (see {@code Universe#nextPlayerId()}),
+ * and is evaluated based on their position-specific ratings.
+ * In save files a player is written once (in the team roster); lineups refer to it by id.
+ * Ratings are computed once per position and cached until the stats or position change.
+ *
+ * A player is either on the heap (it owns a {@link PlayerStats} object) or packed into a
+ * {@link PlayerAttributeStore}, where it keeps only its row and {@link #getStats()} returns
+ * a flyweight view. Both behave the same to callers and save the same way, except that
+ * players of a persistent store (a mapped file) are saved with their row instead of their stats.
  */
-public class Player {
+@JsonPropertyOrder({"id", "name", "age", "position", "stats", "row", "isInjured"})
+@JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id",
+        resolver = SharedObjectIdResolver.class)
+public final class Player {
+
+    private static final int UNRATED = -1;
+    private static final int POSITION_COUNT = Position.values().length;
 
-    private String id;
+    private long id;
     private String name;
     private int age;
     private Position position;
     private PlayerStats stats;
     private boolean isInjured;
 
+    @JsonIgnore
+    private Team team; // Team whose roster holds the player; told when stats or position change
+
+    @JsonIgnore
+    private PlayerAttributeStore store; // Set once the player is packed; stats is null then
+    @JsonIgnore
+    private int row;
+    @JsonIgnore
+    private boolean rowLoaded; // Loaded with a row number, waiting for attachTo
+
+    @JsonIgnore
+    private volatile int[] ratings; // Overall rating per Position ordinal, UNRATED until computed
+
     /**
-     * Default constructor. Automatically assigns a unique ID.
-     * Required for JSON deserialization.
+     * Default constructor required for JSON deserialization; the id comes from the save.
      */
     public Player() {
-        this.id = UUID.randomUUID().toString();
     }
 
     /**
      * Creates a fully initialized Player with identity, role, and stats.
      *
+     * @param id       the player's id, unique within its universe
      * @param name     the player’s full name
      * @param age      player’s age
      * @param position their primary position (e.g., WINGER, FIXO, etc.)
      * @param stats    the full set of technical, mental, physical, etc. attributes
      */
-    public Player(String name, int age, Position position, PlayerStats stats) {
-        this();
+    public Player(long id, String name, int age, Position position, PlayerStats stats) {
+        this.id = id;
         this.name = name;
         this.age = age;
         this.position = position;
         this.stats = stats;
+        if (stats != null) {
+            stats.setOwner(this);
+        }
+    }
+
+    /**
+     * Creates a player whose attributes live in a store row.
+     *
+     * @param id    the player's id, unique within its universe
+     * @param store the store holding the attributes
+     * @param row   the player's row in it
+     */
+    public Player(long id, String name, int age, Position position, PlayerAttributeStore store, int row) {
+        this.id = id;
+        this.name = name;
+        this.age = age;
+        this.position = position;
+        this.store = store;
+        this.row = row;
     }
 
     // === Getters ===
 
-    public String getId() {
+    public long getId() {
         return id;
     }
 
@@ -62,22 +115,133 @@ public class Player {
         return position;
     }
 
+    /**
+     * @return the player's stats; a view of its store row if the player is packed
+     */
+    @JsonIgnore
     public PlayerStats getStats() {
-        return stats;
+        return store == null ? stats : new PlayerStats(store, row, this);
+    }
+
+    /**
+     * Stats as saved: left out for players of a persistent store, which are saved by row.
+     */
+    @JsonProperty("stats")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PlayerStats getSavedStats() {
+        return store != null && store.isPersistent() ? null : getStats();
+    }
+
+    /**
+     * Row as saved: only for players of a persistent store, whose file keeps their stats.
+     */
+    @JsonProperty("row")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer getSavedRow() {
+        return store != null && store.isPersistent() ? row : null;
+    }
+
+    @JsonProperty("row")
+    private void setSavedRow(int row) {
+        this.row = row;
+        this.rowLoaded = true;
     }
 
     public boolean getIsInjured() {
         return isInjured;
     }
 
+    @JsonIgnore
+    public Team getTeam() {
+        return team;
+    }
+
     // === Setters ===
 
+    /**
+     * Replaces the player's stats. A packed player copies them into its store row, so later
+     * changes to the given object do not reach the player.
+     */
+    @JsonProperty("stats")
     public void setStats(PlayerStats stats) {
+        if (store != null) {
+            stats.copyTo(store, row);
+            ratingChanged();
+            return;
+        }
+        if (this.stats != null) {
+            this.stats.setOwner(null);
+        }
         this.stats = stats;
+        if (stats != null) {
+            stats.setOwner(this);
+        }
+        ratingChanged();
     }
 
     public void setPosition(Position position) {
         this.position = position;
+        ratingChanged();
+    }
+
+    /**
+     * Sets the team whose roster holds this player. Called by {@link Team#addPlayer}.
+     */
+    @JsonIgnore
+    public void setTeam(Team team) {
+        this.team = team;
+    }
+
+    /**
+     * Moves the player's attributes into a store row and drops its own stats objects.
+     * Does nothing if the player is already packed.
+     */
+    public void packInto(PlayerAttributeStore store) {
+        if (this.store != null) {
+            return;
+        }
+        this.row = store.add(stats);
+        this.store = store;
+        stats.setOwner(null);
+        stats = null;
+    }
+
+    /**
+     * Points a player loaded with a row number, rather than stats, at that row of the reopened
+     * persistent store it was saved with. Nothing is read from the store.
+     *
+     * @return false if the player was not saved by row (it has stats of its own or is packed already)
+     * @throws IndexOutOfBoundsException if the store has no such row
+     */
+    public boolean attachTo(PlayerAttributeStore store) {
+        if (!rowLoaded) {
+            return false;
+        }
+        Objects.checkIndex(row, store.getSize());
+        this.store = store;
+        this.stats = null;
+        this.rowLoaded = false;
+        ratingChanged();
+        return true;
+    }
+
+    /**
+     * @return the store holding the player's attributes, or null if they are on the heap
+     */
+    @JsonIgnore
+    public PlayerAttributeStore getAttributeStore() {
+        return store;
+    }
+
+    /**
+     * Drops the cached ratings and tells the player's team that its rating aggregates are
+     * out of date. Also called by {@link PlayerStats} when an attribute block is replaced.
+     */
+    void ratingChanged() {
+        ratings = null;
+        if (team != null) {
+            team.rosterChanged();
+        }
     }
 
     public void setAge(int age) {
@@ -96,12 +260,30 @@ public class Player {
      * Computes the player's overall rating based on their position.
      * Goalkeepers are rated using goalkeeping attributes;
      * field players use a weighted average of outfield stats.
+     * The rating is cached per position, so out-of-position ratings are computed once too.
      *
      * @param position the role being evaluated
      * @return an integer rating between 1–100
      */
     @JsonIgnore
     public int getOverallRating(Position position) {
+        int[] cached = ratings;
+        if (cached == null) {
+            cached = new int[POSITION_COUNT];
+            Arrays.fill(cached, UNRATED);
+            ratings = cached;
+        }
+        int slot = position.ordinal();
+        int rating = cached[slot];
+        if (rating == UNRATED) {
+            rating = computeRating(position);
+            cached[slot] = rating;
+        }
+        return rating;
+    }
+
+    private int computeRating(Position position) {
+        PlayerStats stats = getStats();
         if (position == Position.GOALKEEPER) {
             return stats.getAverageGoalkeepingSkill();
         } else {
@@ -125,11 +307,11 @@ public class Player {
         if (this == obj) return true;
         if (!(obj instanceof Player)) return false;
         Player other = (Player) obj;
-        return id.equals(other.id);
+        return id == other.id;
     }
 
     @Override
     public int hashCode() {
-        return id.hashCode();
+        return Long.hashCode(id);
     }
 }
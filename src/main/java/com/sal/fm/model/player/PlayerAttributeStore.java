@@ -0,0 +1,111 @@
+package com.sal.fm.model.player;
+
+import com.sal.fm.enums.Attribute;
+
+import java.util.Objects;
+
+/**
+ * Columnar storage for player attributes: one byte column per {@link Attribute}, one row per player.
+ *
+ * A heap player carries a {@link PlayerStats} and five attribute objects, roughly 300 bytes of
+ * objects for 44 small values. A packed player (see {@link Player#packInto}) keeps only its row
+ * number; its attributes are 44 bytes in the store, and {@link Player#getStats()} hands out
+ * flyweight views that read straight from the columns. Scanning one attribute across all players
+ * walks a single contiguous column.
+ *
+ * Two backends exist: {@link HeapAttributeStore} keeps the columns in byte arrays, and
+ * {@link MappedAttributeStore} in a memory-mapped file. Players, the lineup builder and the match
+ * engine cannot tell them apart.
+ *
+ * Values are stored unsigned (0–255). Rows are appended and never removed. Reads are lock-free;
+ * writes are synchronized on the store.
+ */
+public abstract class PlayerAttributeStore {
+
+    static final int ATTRIBUTE_COUNT = Attribute.values().length;
+
+    /**
+     * Appends a row holding a copy of the given stats.
+     *
+     * @return the new row
+     */
+    public synchronized int add(PlayerStats stats) {
+        int row = reserve(1);
+        put(row, stats);
+        return row;
+    }
+
+    /**
+     * Appends {@code count} empty rows, to be filled with {@link #put}. Lets bulk generation
+     * hand each worker a fixed block of rows, so the layout does not depend on thread timing.
+     *
+     * @return the first of the new rows
+     */
+    public synchronized int reserve(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be at least 1, got " + count);
+        }
+        return allocate(count);
+    }
+
+    /**
+     * Overwrites a row with a copy of the given stats, taking the store's lock once.
+     */
+    public synchronized void put(int row, PlayerStats stats) {
+        Objects.checkIndex(row, getSize());
+        stats.copyTo(this, row);
+    }
+
+    /**
+     * Reads one attribute of a row.
+     */
+    public abstract int get(int row, Attribute attribute);
+
+    /**
+     * @return number of rows in use
+     */
+    public abstract int getSize();
+
+    /**
+     * Writes one attribute of a row. Package-private: edits go through {@link PlayerStats}
+     * so the owning player drops its cached ratings.
+     */
+    synchronized void set(int row, Attribute attribute, int value) {
+        Objects.checkIndex(row, getSize());
+        if (value < 0 || value > 255) {
+            throw new IllegalArgumentException(attribute + " must be between 0 and 255, got " + value);
+        }
+        write(row, attribute, (byte) value);
+    }
+
+    /**
+     * @return whether the rows outlive the process (they are kept in a file); saves then refer
+     *         to players' rows by number instead of copying their stats
+     */
+    public abstract boolean isPersistent();
+
+    /**
+     * Makes the rows written so far durable. Nothing to do for stores that aren't persistent.
+     */
+    public void force() {
+    }
+
+    /**
+     * @return a view of a row's stats, not attached to any player
+     */
+    public PlayerStats getStats(int row) {
+        return new PlayerStats(this, row, null);
+    }
+
+    /**
+     * Reserves the next {@code count} rows. Called with the store's lock held.
+     *
+     * @return the first new row
+     */
+    abstract int allocate(int count);
+
+    /**
+     * Stores one byte. Called with the store's lock held, after bounds and range checks.
+     */
+    abstract void write(int row, Attribute attribute, byte value);
+}
@@ -11,6 +11,11 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
  * - Goalkeeping
  *
  * Provides utility methods to compute role-specific averages.
+ * Attribute blocks are immutable once built, so replacing a block through a setter is the
+ * only way stats change; the owning {@link Player} is told so it can drop its cached ratings.
+ *
+ * Stats of a packed player are a flyweight view of a {@link PlayerAttributeStore} row: getters
+ * return block views reading the store, and setters copy the new block into the row.
  */
 public class PlayerStats {
 
@@ -20,6 +25,14 @@ public class PlayerStats {
     private HiddenAttributes hidden;
     private GoalkeepingAttributes goalkeeping;
 
+    @JsonIgnore
+    private Player owner; // Player holding these stats; told when a block is replaced
+
+    @JsonIgnore
+    private PlayerAttributeStore store; // Set when these stats are a view of a store row
+    @JsonIgnore
+    private int row;
+
     /**
      * Default constructor for serialization frameworks (e.g., Jackson).
      */
@@ -47,46 +60,106 @@ public class PlayerStats {
         this.goalkeeping = goalkeeping;
     }
 
+    /**
+     * Creates a view of one row of a {@link PlayerAttributeStore}.
+     *
+     * @param owner player told when a block is replaced, or null
+     */
+    PlayerStats(PlayerAttributeStore store, int row, Player owner) {
+        this.store = store;
+        this.row = row;
+        this.owner = owner;
+    }
+
     // === Getters and Setters ===
 
     public TechnicalAttributes getTechnical() {
-        return technical;
+        return store == null ? technical : new TechnicalAttributes(store, row);
     }
 
     public void setTechnical(TechnicalAttributes technical) {
-        this.technical = technical;
+        if (store == null) {
+            this.technical = technical;
+        } else {
+            technical.copyTo(store, row);
+        }
+        changed();
     }
 
     public PhysicalAttributes getPhysical() {
-        return physical;
+        return store == null ? physical : new PhysicalAttributes(store, row);
     }
 
     public void setPhysical(PhysicalAttributes physical) {
-        this.physical = physical;
+        if (store == null) {
+            this.physical = physical;
+        } else {
+            physical.copyTo(store, row);
+        }
+        changed();
     }
 
     public MentalAttributes getMental() {
-        return mental;
+        return store == null ? mental : new MentalAttributes(store, row);
     }
 
     public void setMental(MentalAttributes mental) {
-        this.mental = mental;
+        if (store == null) {
+            this.mental = mental;
+        } else {
+            mental.copyTo(store, row);
+        }
+        changed();
     }
 
     public HiddenAttributes getHidden() {
-        return hidden;
+        return store == null ? hidden : new HiddenAttributes(store, row);
     }
 
     public void setHidden(HiddenAttributes hidden) {
-        this.hidden = hidden;
+        if (store == null) {
+            this.hidden = hidden;
+        } else {
+            hidden.copyTo(store, row);
+        }
+        changed();
     }
 
     public GoalkeepingAttributes getGoalkeeping() {
-        return goalkeeping;
+        return store == null ? goalkeeping : new GoalkeepingAttributes(store, row);
     }
 
     public void setGoalkeeping(GoalkeepingAttributes goalkeeping) {
-        this.goalkeeping = goalkeeping;
+        if (store == null) {
+            this.goalkeeping = goalkeeping;
+        } else {
+            goalkeeping.copyTo(store, row);
+        }
+        changed();
+    }
+
+    /**
+     * Sets the player holding these stats. Called by {@link Player#setStats}.
+     */
+    void setOwner(Player owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Writes every block into a store row.
+     */
+    void copyTo(PlayerAttributeStore store, int row) {
+        getTechnical().copyTo(store, row);
+        getPhysical().copyTo(store, row);
+        getMental().copyTo(store, row);
+        getHidden().copyTo(store, row);
+        getGoalkeeping().copyTo(store, row);
+    }
+
+    private void changed() {
+        if (owner != null) {
+            owner.ratingChanged();
+        }
     }
 
     /**
@@ -97,6 +170,7 @@ public class PlayerStats {
      */
     @JsonIgnore
     public int getAverageOutfieldSkill() {
+        TechnicalAttributes technical = getTechnical();
         return (technical.getPassing() +
                 technical.getDribbling() +
                 technical.getShooting() +
@@ -110,6 +184,6 @@ public class PlayerStats {
      */
     @JsonIgnore
     public int getAverageGoalkeepingSkill() {
-        return goalkeeping.getAverage();
+        return getGoalkeeping().getAverage();
     }
 }
@@ -1,6 +1,7 @@
 package com.sal.fm.model.player;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sal.fm.enums.Attribute;
 
 /**
  * Represents a player's technical ability with the ball.
@@ -22,6 +23,11 @@ public class TechnicalAttributes {
     private int tackling;         // Ability to dispossess opponents cleanly
     private int technique;        // Overall technical fluency and skill
 
+    @JsonIgnore
+    private PlayerAttributeStore store; // Set when this block is a view of a store row
+    @JsonIgnore
+    private int row;
+
     /**
      * Default constructor required for serialization (e.g. Jackson).
      */
@@ -56,46 +62,54 @@ public class TechnicalAttributes {
         this.technique = technique;
     }
 
+    /**
+     * Creates a view of one row of a {@link PlayerAttributeStore}; every getter reads the store.
+     */
+    TechnicalAttributes(PlayerAttributeStore store, int row) {
+        this.store = store;
+        this.row = row;
+    }
+
     // === Getters ===
 
     public int getCorners() {
-        return corners;
+        return value(Attribute.CORNERS, corners);
     }
 
     public int getPenaltyTaking() {
-        return penaltyTaking;
+        return value(Attribute.PENALTY_TAKING, penaltyTaking);
     }
 
     public int getFreeKicks() {
-        return freeKicks;
+        return value(Attribute.FREE_KICKS, freeKicks);
     }
 
     public int getShooting() {
-        return shooting;
+        return value(Attribute.SHOOTING, shooting);
     }
 
     public int getLongShots() {
-        return longShots;
+        return value(Attribute.LONG_SHOTS, longShots);
     }
 
     public int getHeading() {
-        return heading;
+        return value(Attribute.HEADING, heading);
     }
 
     public int getPassing() {
-        return passing;
+        return value(Attribute.PASSING, passing);
     }
 
     public int getDribbling() {
-        return dribbling;
+        return value(Attribute.DRIBBLING, dribbling);
     }
 
     public int getTackling() {
-        return tackling;
+        return value(Attribute.TACKLING, tackling);
     }
 
     public int getTechnique() {
-        return technique;
+        return value(Attribute.TECHNIQUE, technique);
     }
 
     /**
@@ -107,15 +121,35 @@ public class TechnicalAttributes {
     @JsonIgnore
     public int getAverage() {
         int sum =
-                corners +       // optionally exclude for a pure gameplay average
-                        shooting +
-                        longShots +
-                        heading +
-                        passing +
-                        dribbling +
-                        tackling +
-                        technique;
+                getCorners() +       // optionally exclude for a pure gameplay average
+                        getShooting() +
+                        getLongShots() +
+                        getHeading() +
+                        getPassing() +
+                        getDribbling() +
+                        getTackling() +
+                        getTechnique();
 
         return sum / 8;
     }
+
+    /**
+     * Writes this block's values into a store row.
+     */
+    void copyTo(PlayerAttributeStore store, int row) {
+        store.set(row, Attribute.CORNERS, getCorners());
+        store.set(row, Attribute.PENALTY_TAKING, getPenaltyTaking());
+        store.set(row, Attribute.FREE_KICKS, getFreeKicks());
+        store.set(row, Attribute.SHOOTING, getShooting());
+        store.set(row, Attribute.LONG_SHOTS, getLongShots());
+        store.set(row, Attribute.HEADING, getHeading());
+        store.set(row, Attribute.PASSING, getPassing());
+        store.set(row, Attribute.DRIBBLING, getDribbling());
+        store.set(row, Attribute.TACKLING, getTackling());
+        store.set(row, Attribute.TECHNIQUE, getTechnique());
+    }
+
+    private int value(Attribute attribute, int own) {
+        return store == null ? own : store.get(row, attribute);
+    }
 }
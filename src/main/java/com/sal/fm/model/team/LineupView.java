@@ -0,0 +1,57 @@
+package com.sal.fm.model.team;
+
+import com.sal.fm.enums.Position;
+import com.sal.fm.model.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable split of a starting lineup into field players and goalkeepers.
+ *
+ * Built once by {@link Team#getLineupView()} and reused until the lineup changes,
+ * so the match engine never has to filter the lineup during a match.
+ * A new instance means the lineup changed; callers can detect that by identity.
+ */
+public final class LineupView {
+
+    private final List<Player> fieldPlayers;
+    private final List<Player> goalkeepers;
+
+    private LineupView(List<Player> fieldPlayers, List<Player> goalkeepers) {
+        this.fieldPlayers = fieldPlayers;
+        this.goalkeepers = goalkeepers;
+    }
+
+    /**
+     * Builds the view of the given starting lineup.
+     *
+     * @param lineup the starting players
+     * @return an immutable view of the lineup
+     */
+    public static LineupView of(List<Player> lineup) {
+        List<Player> field = new ArrayList<>();
+        List<Player> keepers = new ArrayList<>();
+
+        for (Player p : lineup) {
+            if (p.getPosition() == Position.GOALKEEPER) keepers.add(p);
+            else field.add(p);
+        }
+
+        return new LineupView(List.copyOf(field), List.copyOf(keepers));
+    }
+
+    /**
+     * @return starting players who are not goalkeepers, in lineup order
+     */
+    public List<Player> getFieldPlayers() {
+        return fieldPlayers;
+    }
+
+    /**
+     * @return starting goalkeepers, in lineup order
+     */
+    public List<Player> getGoalkeepers() {
+        return goalkeepers;
+    }
+}
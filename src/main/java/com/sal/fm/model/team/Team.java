@@ -1,24 +1,47 @@
 package com.sal.fm.model.team;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import com.sal.fm.enums.Tactic;
 import com.sal.fm.model.player.Player;
+import com.sal.fm.util.SharedObjectIdResolver;
 
 /**
  * Represents a football team, including its name, players,
  * tactical formation, and match lineup.
+ *
+ * In save files a team is written once (in the league) and identified by its name;
+ * matches refer to it by name, and its lineup refers to roster players by id.
+ *
+ * Rating aggregates are cached ({@link #getAggregates()}) and invalidated through a version
+ * counter. Edits to the team and its players are expected from one thread at a time.
  */
+@JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "name",
+        resolver = SharedObjectIdResolver.class)
 public class Team {
 
     private String name;
     private List<Player> players;
+    @JsonIdentityReference(alwaysAsId = true)
     private List<Player> startingLineup;
+    @JsonIdentityReference(alwaysAsId = true)
     private List<Player> substitutes;
     private Tactic tactic;
 
+    @JsonIgnore
+    private LineupView lineupView; // Cached split of the starting lineup, rebuilt after lineup changes
+    @JsonIgnore
+    private int version; // Bumped on every roster, lineup or player stat change
+    @JsonIgnore
+    private TeamAggregates aggregates; // Cached rating aggregates, rebuilt when the version moves on
+
     /**
      * Constructs a new team with the given name and tactic.
      * Initializes empty player and lineup lists.
@@ -50,6 +73,8 @@ public class Team {
      */
     public void addPlayer(Player player) {
         players.add(player);
+        player.setTeam(this);
+        rosterChanged();
     }
 
     // === Getters ===
@@ -75,36 +100,125 @@ public class Team {
     }
 
     /**
-     * Computes the average skill rating of all players on the team.
+     * Returns the field-player / goalkeeper split of the starting lineup.
+     * The view is built once and the same instance is returned until the lineup changes.
+     *
+     * @return immutable view of the current starting lineup
+     */
+    @JsonIgnore
+    public LineupView getLineupView() {
+        LineupView view = lineupView;
+        if (view == null) {
+            view = LineupView.of(startingLineup);
+            lineupView = view;
+        }
+        return view;
+    }
+
+    /**
+     * Returns the team's rating aggregates, recomputed only if the roster, lineup or a
+     * player's stats changed since they were last computed.
+     *
+     * @return the current aggregates
+     */
+    @JsonIgnore
+    public TeamAggregates getAggregates() {
+        TeamAggregates current = aggregates;
+        if (current == null || current.getVersion() != version) {
+            current = TeamAggregates.of(version, players, startingLineup);
+            aggregates = current;
+        }
+        return current;
+    }
+
+    /**
+     * @return the team version, bumped on every roster, lineup or player stat change
+     */
+    @JsonIgnore
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the average skill rating of all players on the team.
      * Used for UI, match scheduling, and simulation.
      *
      * @return average player rating (rounded)
      */
     @JsonIgnore
     public int getAverageSkill() {
-        return (int) players.stream()
-                .mapToInt(p -> p.getOverallRating(p.getPosition()))
-                .average()
-                .orElse(0);
+        return getAggregates().getAverageRating();
     }
 
     /**
-     * Computes the sum of all players' ratings.
+     * Returns the sum of all players' ratings.
      * Can be used for strength comparisons during matchmaking.
      *
      * @return total team rating
      */
     @JsonIgnore
     public int getTeamStrength() {
-        return players.stream()
-                .mapToInt(p -> p.getOverallRating(p.getPosition()))
-                .sum();
+        return getAggregates().getTotalRating();
     }
 
     // === Setters ===
 
     public void setStartingLineup(List<Player> startingLineup) {
         this.startingLineup = startingLineup;
+        lineupChanged();
+    }
+
+    /**
+     * Swaps a starter for a substitute, e.g. after an injury.
+     *
+     * @param out the starting player leaving the lineup
+     * @param in  the substitute replacing them
+     * @throws IllegalArgumentException if {@code out} isn't starting or {@code in} isn't on the bench
+     */
+    public void substitute(Player out, Player in) {
+        int index = startingLineup.indexOf(out);
+        if (index < 0 || !substitutes.contains(in)) {
+            throw new IllegalArgumentException("Invalid substitution: " + out.getName() + " -> " + in.getName());
+        }
+
+        startingLineup.set(index, in);
+        substitutes.remove(in);
+        substitutes.add(out);
+        lineupChanged();
+    }
+
+    /**
+     * Points the lineup and bench at this team's own roster instances (matched by id).
+     * Needed for saves that stored separate copies of lineup players.
+     */
+    public void linkLineup() {
+        Map<Long, Player> roster = new HashMap<>();
+        for (Player p : players) {
+            roster.put(p.getId(), p);
+            p.setTeam(this);
+        }
+
+        startingLineup.replaceAll(p -> roster.getOrDefault(p.getId(), p));
+        substitutes.replaceAll(p -> roster.getOrDefault(p.getId(), p));
+        lineupChanged();
+    }
+
+    /**
+     * Drops the cached lineup view. Must be called after the starting lineup list
+     * is modified in place; the setters and {@link #substitute} do this themselves.
+     */
+    public void lineupChanged() {
+        lineupView = null;
+        version++;
+    }
+
+    /**
+     * Invalidates the cached aggregates. Must be called after the roster list is modified
+     * in place; {@link #addPlayer} does this itself, and players of this team call it when
+     * their stats or position change.
+     */
+    public void rosterChanged() {
+        version++;
     }
 
     public void setSubstitutes(List<Player> substitutes) {
@@ -0,0 +1,101 @@
+package com.sal.fm.model.team;
+
+import com.sal.fm.enums.Position;
+import com.sal.fm.model.player.Player;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of a team's rating aggregates: roster average and total,
+ * best rating per position and the average of the starting lineup.
+ *
+ * Built by {@link Team#getAggregates()} in one pass over the roster and reused until the
+ * team's version changes (roster, lineup or player stat edits), so UI and AI reads are O(1).
+ * Every player is rated at their own position.
+ */
+public final class TeamAggregates {
+
+    private final int version;
+    private final int playerCount;
+    private final int totalRating;
+    private final int averageRating;
+    private final int lineupAverageRating;
+    private final int[] bestRating; // Indexed by Position ordinal, 0 if no player
+
+    private TeamAggregates(int version, int playerCount, int totalRating, int averageRating,
+                           int lineupAverageRating, int[] bestRating) {
+        this.version = version;
+        this.playerCount = playerCount;
+        this.totalRating = totalRating;
+        this.averageRating = averageRating;
+        this.lineupAverageRating = lineupAverageRating;
+        this.bestRating = bestRating;
+    }
+
+    /**
+     * Computes the aggregates of a roster and lineup.
+     *
+     * @param version version of the team they are computed for
+     * @param roster  all players of the team
+     * @param lineup  the starting lineup
+     */
+    static TeamAggregates of(int version, List<Player> roster, List<Player> lineup) {
+        int total = 0;
+        int[] best = new int[Position.values().length];
+
+        for (Player p : roster) {
+            int rating = p.getOverallRating(p.getPosition());
+            total += rating;
+            int slot = p.getPosition().ordinal();
+            best[slot] = Math.max(best[slot], rating);
+        }
+
+        int lineupTotal = 0;
+        for (Player p : lineup) {
+            lineupTotal += p.getOverallRating(p.getPosition());
+        }
+
+        int average = roster.isEmpty() ? 0 : (int) ((double) total / roster.size());
+        int lineupAverage = lineup.isEmpty() ? 0 : (int) ((double) lineupTotal / lineup.size());
+        return new TeamAggregates(version, roster.size(), total, average, lineupAverage, best);
+    }
+
+    /**
+     * @return the team version these aggregates were computed at
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * @return sum of all players' ratings
+     */
+    public int getTotalRating() {
+        return totalRating;
+    }
+
+    /**
+     * @return average player rating (rounded down)
+     */
+    public int getAverageRating() {
+        return averageRating;
+    }
+
+    /**
+     * @return average rating of the starting lineup (rounded down)
+     */
+    public int getLineupAverageRating() {
+        return lineupAverageRating;
+    }
+
+    /**
+     * @return rating of the best player at the given position, or 0 if the team has none
+     */
+    public int getBestRating(Position position) {
+        return bestRating[position.ordinal()];
+    }
+}
@@ -0,0 +1,406 @@
+package com.sal.fm.util;
+
+import com.sal.fm.config.MatchConfig;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background writer behind every {@link MatchLogger}.
+ *
+ * Simulation threads only enqueue small records (file, minute, message, or a block of
+ * bytes for binary files) into a bounded ring buffer; a single daemon thread drains it in batches, formats the lines and writes
+ * them through buffered writers. Files are opened, flushed and closed on that thread only,
+ * so a simulated match never waits on the disk.
+ *
+ * Writers are flushed at most every {@code flushIntervalMs} while records keep coming,
+ * and as soon as the queue goes idle. When the buffer is full, log lines either block the
+ * producer ({@link OverflowPolicy#BLOCK}) or are dropped and counted ({@link OverflowPolicy#DROP}).
+ * Data blocks, close records and tasks always block, even through an interrupt (e.g. a cancelled
+ * match), so a file is never leaked and no block is lost; a blocked log line that is interrupted
+ * is dropped and counted.
+ *
+ * Pending records are written out by a shutdown hook, or on demand with {@link #sync()}.
+ */
+public final class AsyncLogWriter {
+
+    /** What to do with a log line when the ring buffer is full */
+    public enum OverflowPolicy {
+        /** Wait for the writer to make room (a line is only lost if the waiting thread is interrupted) */
+        BLOCK,
+        /** Discard the line and count it in {@link #getDroppedCount()} */
+        DROP
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static volatile AsyncLogWriter shared;
+
+    private final ArrayBlockingQueue<Entry> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final OverflowPolicy policy;
+    private final AtomicLong dropped = new AtomicLong();
+
+    // Only touched by the writer thread
+    private final List<LogFile> dirty = new ArrayList<>();
+    private long lastFlush = System.currentTimeMillis();
+
+    /**
+     * Creates a writer and starts its background thread.
+     *
+     * @param capacity        number of records the ring buffer holds
+     * @param batchSize       maximum records written per batch
+     * @param flushIntervalMs maximum time written lines stay unflushed while the queue is busy
+     * @param policy          behaviour of log lines when the buffer is full
+     */
+    public AsyncLogWriter(int capacity, int batchSize, long flushIntervalMs, OverflowPolicy policy) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.policy = policy;
+
+        Thread writer = new Thread(this::run, "match-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::sync, "match-log-drain"));
+    }
+
+    /**
+     * @return the writer shared by all match logs, configured from {@link MatchConfig}
+     */
+    public static AsyncLogWriter shared() {
+        AsyncLogWriter writer = shared;
+        if (writer == null) {
+            synchronized (AsyncLogWriter.class) {
+                writer = shared;
+                if (writer == null) {
+                    writer = new AsyncLogWriter(
+                            MatchConfig.LOG_QUEUE_CAPACITY,
+                            MatchConfig.LOG_BATCH_SIZE,
+                            MatchConfig.LOG_FLUSH_INTERVAL_MS,
+                            MatchConfig.LOG_DROP_WHEN_FULL ? OverflowPolicy.DROP : OverflowPolicy.BLOCK);
+                    shared = writer;
+                }
+            }
+        }
+        return writer;
+    }
+
+    /**
+     * Registers a log file. The file itself is created lazily by the writer thread.
+     *
+     * @param path file to append to
+     * @return handle to pass to {@link #append} and {@link #close}
+     */
+    public LogFile open(String path) {
+        return new LogFile(path);
+    }
+
+    /**
+     * Enqueues a line; it is written as {@code [mm'] message}.
+     */
+    public void append(LogFile file, int minute, String message) {
+        Entry entry = new Entry(file, minute, message, null, null, null);
+        if (policy == OverflowPolicy.DROP) {
+            if (!queue.offer(entry)) dropped.incrementAndGet();
+        } else {
+            try {
+                queue.put(entry);
+            } catch (InterruptedException e) {
+                dropped.incrementAndGet();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Enqueues a block of bytes to append as-is, e.g. a whole binary event stream.
+     * Blocks of data are never dropped. The array must not be modified afterwards.
+     */
+    public void append(LogFile file, byte[] data) {
+        put(new Entry(file, Entry.DATA, null, data, null, null));
+    }
+
+    /**
+     * Enqueues a block of bytes for an append-only segment file and records where it landed:
+     * a line {@code key <tab> offset <tab> length} is appended to the index file.
+     * Blocks are never dropped. The array must not be modified afterwards.
+     *
+     * @param segment file the block is appended to
+     * @param index   file the block's offset is recorded in
+     * @param key     name of the block in the index (no tabs or line breaks)
+     * @param data    the block
+     */
+    public void appendIndexed(LogFile segment, LogFile index, String key, byte[] data) {
+        put(new Entry(segment, Entry.INDEXED, key, data, index, null));
+    }
+
+    /**
+     * Runs a task on the writer thread once every record queued before it has been
+     * written and flushed, e.g. to compress a file after its close record.
+     */
+    public void execute(Runnable task) {
+        put(new Entry(null, Entry.TASK, null, null, null, task));
+    }
+
+    /**
+     * Enqueues the closing of a file, after all lines already queued for it.
+     */
+    public void close(LogFile file) {
+        put(new Entry(file, Entry.CLOSE, null, null, null, null));
+    }
+
+    /**
+     * Blocks until every record queued so far has been written and flushed.
+     */
+    public void sync() {
+        CountDownLatch written = new CountDownLatch(1);
+        execute(written::countDown);
+        try {
+            written.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return number of lines discarded because the buffer was full (or the producer was
+     *         interrupted while waiting for room)
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return records currently waiting in the ring buffer
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Enqueues a record that must not be lost, waiting for room even if the thread is
+     * interrupted; the interrupt is restored once the record is queued.
+     */
+    private void put(Entry entry) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(entry);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                Entry first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    flushDirty();
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                for (Entry entry : batch) {
+                    try {
+                        write(entry);
+                    } catch (RuntimeException e) {
+                        // Never let one bad record drop the ones behind it (closes, sync latches)
+                        e.printStackTrace();
+                    }
+                }
+                batch.clear();
+
+                if (queue.isEmpty() || System.currentTimeMillis() - lastFlush >= flushIntervalMs) {
+                    flushDirty();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                // Never let a failed flush kill the writer
+                batch.clear();
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void write(Entry entry) {
+        switch (entry.minute) {
+            case Entry.TASK -> {
+                try {
+                    flushDirty();
+                } finally {
+                    entry.task.run(); // Runs even if a flush fails, so sync() callers are released
+                }
+            }
+            case Entry.CLOSE -> {
+                LogFile file = entry.file;
+                if (file.stream != null) {
+                    file.close();
+                    dirty.remove(file);
+                }
+                file.closed = true;
+            }
+            case Entry.DATA -> writeData(entry.file, entry.data);
+            case Entry.INDEXED -> {
+                long offset = entry.file.size();
+                if (!writeData(entry.file, entry.data)) return;
+
+                String line = entry.message + "\t" + offset + "\t" + entry.data.length + "\n";
+                writeData(entry.index, line.getBytes(StandardCharsets.UTF_8));
+            }
+            default -> {
+                PrintWriter out = entry.file.writer();
+                if (out == null) return;
+
+                out.print('[');
+                if (entry.minute < 10) out.print('0');
+                out.print(entry.minute);
+                out.print("'] ");
+                out.println(entry.message);
+                markDirty(entry.file);
+            }
+        }
+    }
+
+    private boolean writeData(LogFile file, byte[] data) {
+        OutputStream stream = file.stream();
+        if (stream == null) return false;
+
+        try {
+            stream.write(data);
+            file.size += data.length;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+        markDirty(file);
+        return true;
+    }
+
+    private void markDirty(LogFile file) {
+        if (!file.dirty) {
+            file.dirty = true;
+            dirty.add(file);
+        }
+    }
+
+    private void flushDirty() {
+        for (LogFile file : dirty) {
+            file.flush();
+            file.dirty = false;
+        }
+        dirty.clear();
+        lastFlush = System.currentTimeMillis();
+    }
+
+    /**
+     * Handle of a file written by the background thread.
+     */
+    public static final class LogFile {
+        private final String path;
+
+        // Only touched by the writer thread
+        private OutputStream stream;
+        private PrintWriter out;
+        private long size; // bytes in the file, counted for binary writes only
+        private boolean dirty;
+        private boolean closed;
+        private boolean failed;
+
+        private LogFile(String path) {
+            this.path = path;
+        }
+
+        private OutputStream stream() {
+            if (stream == null && !closed && !failed) {
+                try {
+                    File parent = new File(path).getParentFile();
+                    if (parent != null && !parent.exists()) {
+                        parent.mkdirs();
+                    }
+                    size = new File(path).length();
+                    stream = new BufferedOutputStream(new FileOutputStream(path, true), BUFFER_SIZE);
+                } catch (IOException e) {
+                    failed = true;
+                    e.printStackTrace();
+                }
+            }
+            return stream;
+        }
+
+        private long size() {
+            stream();
+            return size;
+        }
+
+        private PrintWriter writer() {
+            if (out == null && stream() != null) {
+                out = new PrintWriter(stream);
+            }
+            return out;
+        }
+
+        private void flush() {
+            try {
+                if (out != null) out.flush();
+                else stream.flush();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        private void close() {
+            try {
+                if (out != null) out.close();
+                else stream.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private static final class Entry {
+        static final int CLOSE = -1;
+        static final int TASK = -2;
+        static final int DATA = -3;
+        static final int INDEXED = -4;
+
+        final LogFile file;
+        final int minute;       // or one of the record kinds above
+        final String message;   // line text, or index key
+        final byte[] data;
+        final LogFile index;
+        final Runnable task;
+
+        Entry(LogFile file, int minute, String message, byte[] data, LogFile index, Runnable task) {
+            this.file = file;
+            this.minute = minute;
+            this.message = message;
+            this.data = data;
+            this.index = index;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.sal.fm.util;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded random stream used by the simulation.
+ *
+ * Unlike {@link DiceUtil}, every Dice owns its own generator, so each match (or generated team)
+ * can draw from an independent stream derived from a league seed. Results are then reproducible
+ * and identical no matter how many threads run the simulation.
+ *
+ * A Dice instance is not thread-safe; give each task its own stream via {@link #forStream} or {@link #split()}.
+ */
+public class Dice {
+
+    private final SplittableRandom random;
+
+    /**
+     * Creates a stream seeded with the given value.
+     */
+    public Dice(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private Dice(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Creates a stream with an arbitrary seed, for callers that don't need reproducibility.
+     */
+    public static Dice unseeded() {
+        return new Dice(new SplittableRandom());
+    }
+
+    /**
+     * Returns a fresh random seed, e.g. for a new league.
+     */
+    public static long newSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    /** Weyl increment between consecutive sub-stream ids (the golden ratio, as in SplitMix64) */
+    private static final long STREAM_GAMMA = 0x9E3779B97F4A7C15L;
+    /** Mixed into a parent seed before deriving sub-streams, so they are not the parent's own outputs */
+    private static final long STREAM_TAG = 0x2545F4914F6CDD1DL;
+
+    /**
+     * Derives the seed of sub-stream {@code streamId} from a parent seed.
+     * Used to give every fixture of a league its own stream: {@code streamSeed(leagueSeed, fixtureId)}.
+     *
+     * The parent seed is tagged and mixed first: {@code new Dice(seed)} outputs
+     * {@code mix64(seed + k * gamma)}, and deriving children with the same formula would hand out
+     * exactly those values as seeds, correlating every child with its parent's stream.
+     */
+    public static long streamSeed(long seed, long streamId) {
+        return mix64(mix64(seed ^ STREAM_TAG) + (streamId + 1) * STREAM_GAMMA);
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Creates the sub-stream {@code streamId} of the given parent seed.
+     */
+    public static Dice forStream(long seed, long streamId) {
+        return new Dice(streamSeed(seed, streamId));
+    }
+
+    /**
+     * Splits off a new, statistically independent stream.
+     */
+    public Dice split() {
+        return new Dice(random.split());
+    }
+
+    /**
+     * Returns a random long, e.g. to seed child streams.
+     */
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    /**
+     * Returns a random int between min and max (inclusive)
+     */
+    public int roll(int min, int max) {
+        return min + random.nextInt(max - min + 1);
+    }
+
+    /**
+     * Returns a random double between 0 and 1
+     */
+    public double chance() {
+        return random.nextDouble();
+    }
+
+    /**
+     * Returns true with a given probability between 0.0 and 1.0 (e.g., 0.75 = 75% chance)
+     */
+    public boolean chance(double probability) {
+        return random.nextDouble() < probability;
+    }
+
+    /**
+     * Returns true with a probability of x% (0–100)
+     */
+    public boolean rollPercent(double percentChance) {
+        return chance() < percentChance / 100.0;
+    }
+
+    /**
+     * Picks a random element from an array
+     */
+    public <T> T pickRandom(T[] array) {
+        return array[random.nextInt(array.length)];
+    }
+
+    /**
+     * Picks a random element from a list
+     */
+    public <T> T pickRandom(List<T> list) {
+        if (list == null || list.isEmpty()) {
+            throw new IllegalArgumentException("List must not be null or empty");
+        }
+        return list.get(random.nextInt(list.size()));
+    }
+
+    /**
+     * Picks a random index between 0 (inclusive) and size (exclusive).
+     * Consumes the same draw as {@link #pickRandom(List)} on a list of that size.
+     */
+    public int pickIndex(int size) {
+        return random.nextInt(size);
+    }
+
+    /**
+     * Simulates a duel where one side wins based on relative weight.
+     * Example: attacker = 70, defender = 30 → 70% chance attacker wins
+     */
+    public boolean successCheck(int attackerScore, int defenderScore) {
+        return roll(0, attackerScore + defenderScore - 1) < attackerScore;
+    }
+}
@@ -1,30 +1,34 @@
 package com.sal.fm.util;
 
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Static dice helpers. Backed by {@link ThreadLocalRandom}, so matches simulated
+ * on different threads never contend on a shared generator.
+ * Simulation code that must be reproducible uses a seeded {@link Dice} stream instead.
+ */
 public class DiceUtil {
-    private static final Random random = new Random();
 
     /**
      * Returns a random int between min and max (inclusive)
      */
     public static int roll(int min, int max) {
-        return min + random.nextInt(max - min + 1);
+        return min + random().nextInt(max - min + 1);
     }
 
     /**
      * Returns a random double between 0 and 1
      */
     public static double chance() {
-        return random.nextDouble();
+        return random().nextDouble();
     }
 
     /**
      * Returns true with a given probability between 0.0 and 1.0 (e.g., 0.75 = 75% chance)
      */
     public static boolean chance(double probability) {
-        return random.nextDouble() < probability;
+        return random().nextDouble() < probability;
     }
 
     /**
@@ -38,7 +42,7 @@ public class DiceUtil {
      * Picks a random element from an array
      */
     public static <T> T pickRandom(T[] array) {
-        return array[random.nextInt(array.length)];
+        return array[random().nextInt(array.length)];
     }
 
     /**
@@ -48,7 +52,7 @@ public class DiceUtil {
         if (list == null || list.isEmpty()) {
             throw new IllegalArgumentException("List must not be null or empty");
         }
-        return list.get(random.nextInt(list.size()));
+        return list.get(random().nextInt(list.size()));
     }
 
     /**
@@ -59,4 +63,7 @@ public class DiceUtil {
         return roll(0, attackerScore + defenderScore - 1) < attackerScore;
     }
 
+    private static ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
 }
\ No newline at end of file
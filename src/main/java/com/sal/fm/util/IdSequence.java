@@ -0,0 +1,49 @@
+package com.sal.fm.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe source of dense ids: 1, 2, 3, ...
+ *
+ * Each {@code Universe} keeps one sequence for players and one for matches. After a load the
+ * sequence is moved past every id found in the save ({@link #advancePast}), so new ids never
+ * clash with saved ones.
+ */
+public class IdSequence {
+
+    private final AtomicLong last = new AtomicLong();
+
+    /**
+     * @return the next unused id
+     */
+    public long next() {
+        return last.incrementAndGet();
+    }
+
+    /**
+     * Reserves a block of consecutive ids.
+     *
+     * @param count number of ids to reserve
+     * @return the first id of the block
+     */
+    public long reserve(long count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be at least 1, got " + count);
+        }
+        return last.getAndAdd(count) + 1;
+    }
+
+    /**
+     * Makes sure later calls to {@link #next()} return ids above the given one.
+     */
+    public void advancePast(long id) {
+        last.accumulateAndGet(id, Math::max);
+    }
+
+    /**
+     * @return the highest id handed out or seen so far (0 if none)
+     */
+    public long getLast() {
+        return last.get();
+    }
+}
@@ -0,0 +1,37 @@
+package com.sal.fm.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text sink that keeps commentary and debug lines in memory,
+ * formatted exactly like the {@link MatchLogger} files. Used for replays.
+ */
+public class InMemoryMatchLog extends TextEventSink {
+
+    private final List<String> commentary = new ArrayList<>();
+    private final List<String> debugLines = new ArrayList<>();
+
+    @Override
+    protected void log(int minute, String message, boolean silent) {
+        String formatted = String.format("[%02d'] %s", minute, message);
+        commentary.add(formatted);
+
+        if (!silent) {
+            System.out.println(formatted);
+        }
+    }
+
+    @Override
+    protected void logDebug(int minute, String message) {
+        debugLines.add(String.format("[%02d'] %s", minute, message));
+    }
+
+    public List<String> getCommentary() {
+        return commentary;
+    }
+
+    public List<String> getDebugLines() {
+        return debugLines;
+    }
+}
@@ -8,7 +8,8 @@ import java.io.IOException;
 
 public class JsonUtil {
     private static final ObjectMapper mapper = new ObjectMapper()
-            .enable(SerializationFeature.INDENT_OUTPUT); // Makes JSON pretty
+            .enable(SerializationFeature.INDENT_OUTPUT) // Makes JSON pretty
+            .addHandler(new LegacyIdHandler()); // Reads UUID ids of older saves
 
     public static void saveToFile(String path, Object object) {
         try {
@@ -0,0 +1,44 @@
+package com.sal.fm.util;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the UUID strings that older saves used as player and match ids.
+ *
+ * Ids are numbers now. When a UUID turns up where a numeric id is expected, it is replaced by a
+ * number, the same one for every occurrence within one load, so lineups still point at their
+ * roster players. Numbers are handed out from 1 in the order UUIDs are first met. Any other
+ * malformed value still fails as before.
+ */
+public class LegacyIdHandler extends DeserializationProblemHandler {
+
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{12}");
+    private static final String IDS_ATTRIBUTE = LegacyIdHandler.class.getName() + ".ids";
+
+    @Override
+    public Object handleWeirdStringValue(DeserializationContext ctxt, Class<?> targetType, String valueToConvert,
+                                         String failureMsg) {
+        if ((targetType != long.class && targetType != Long.class) || !UUID_PATTERN.matcher(valueToConvert).matches()) {
+            return NOT_HANDLED;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Long> ids = (Map<String, Long>) ctxt.getAttribute(IDS_ATTRIBUTE);
+        if (ids == null) {
+            ids = new HashMap<>();
+            ctxt.setAttribute(IDS_ATTRIBUTE, ids);
+        }
+        Long id = ids.get(valueToConvert);
+        if (id == null) {
+            id = (long) ids.size() + 1;
+            ids.put(valueToConvert, id);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,52 @@
+package com.sal.fm.util;
+
+import com.sal.fm.engine.MatchEventRecord;
+
+/**
+ * Destination for everything the match engine reports while a match is simulated:
+ * commentary events and debug duel events.
+ *
+ * Events arrive typed ({@link MatchEventRecord}); sinks that need text render them with
+ * {@link com.sal.fm.engine.MatchCommentary}, usually by extending {@link TextEventSink}.
+ * {@link MatchLogger} writes them to per-match files; {@link #NONE} discards them,
+ * which is what headless (result-only) simulations use.
+ */
+public interface MatchEventSink {
+
+    /**
+     * Sink that ignores every event and never touches the filesystem.
+     */
+    MatchEventSink NONE = new MatchEventSink() {
+        @Override
+        public void onEvent(MatchEventRecord event, boolean silent) {
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * Receives an event. The record is reused by the engine for the next event,
+     * so it must not be kept after this call returns.
+     *
+     * @param event  the event (commentary or debug, see {@link com.sal.fm.enums.MatchEventType#isDebug()})
+     * @param silent if true, commentary is not echoed to the console
+     */
+    void onEvent(MatchEventRecord event, boolean silent);
+
+    /**
+     * Whether this sink consumes events at all.
+     * The engine skips reporting events to disabled sinks.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Releases any resources held by the sink.
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,245 @@
+package com.sal.fm.util;
+
+import com.sal.fm.config.MatchConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Append-only log file shared by all matches of a matchday, instead of two files per match.
+ *
+ * Every match appends its logs as blocks to {@code logs/<name>.seg}; each block is recorded
+ * in {@code logs/<name>.idx} as one line {@code matchId:kind <tab> offset <tab> length}.
+ * Kinds are {@link #LOG} and {@link #DEBUG} (text logs) or {@link #EVENTS} (binary stream).
+ * All writes go through the shared {@link AsyncLogWriter}, so blocks never interleave.
+ *
+ * When a segment is closed (rolled over) it can be gzipped to {@code <name>.seg.gz};
+ * the index keeps uncompressed offsets. Use {@link Reader} to fetch a single match's log.
+ */
+public final class MatchLogSegment {
+
+    /** Commentary lines, as in {@code match_*.log} */
+    public static final String LOG = "log";
+    /** Debug duel lines, as in {@code debug_*.log} */
+    public static final String DEBUG = "debug";
+    /** Binary event stream, as in {@code match_*.evt} */
+    public static final String EVENTS = "evt";
+
+    private static final String LOGS_FOLDER = "logs/";
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private final AsyncLogWriter writer;
+    private final Path segmentPath;
+    private final AsyncLogWriter.LogFile segment;
+    private final AsyncLogWriter.LogFile index;
+    private final boolean compressOnClose;
+
+    private MatchLogSegment(AsyncLogWriter writer, String basePath, boolean compressOnClose) {
+        this.writer = writer;
+        this.segmentPath = Paths.get(basePath + ".seg");
+        this.segment = writer.open(basePath + ".seg");
+        this.index = writer.open(basePath + ".idx");
+        this.compressOnClose = compressOnClose;
+    }
+
+    /**
+     * Opens the segment of a league matchday, named {@code logs/matchday_NN_<timestamp>}.
+     * Compression on close follows {@link MatchConfig#COMPRESS_LOG_SEGMENTS}.
+     */
+    public static MatchLogSegment forMatchday(int matchday) {
+        String name = String.format("matchday_%02d_%s", matchday, LocalDateTime.now().format(TIMESTAMP));
+        return new MatchLogSegment(AsyncLogWriter.shared(), LOGS_FOLDER + name, MatchConfig.COMPRESS_LOG_SEGMENTS);
+    }
+
+    /**
+     * Opens a segment at the given path (without extension).
+     */
+    public static MatchLogSegment open(String basePath, boolean compressOnClose) {
+        return new MatchLogSegment(AsyncLogWriter.shared(), basePath, compressOnClose);
+    }
+
+    /**
+     * Appends one block of a match's logs.
+     *
+     * @param matchId id of the match the block belongs to
+     * @param kind    {@link #LOG}, {@link #DEBUG} or {@link #EVENTS}
+     * @param data    the block; must not be modified afterwards
+     */
+    public void append(String matchId, String kind, byte[] data) {
+        writer.appendIndexed(segment, index, matchId + ":" + kind, data);
+    }
+
+    /**
+     * Closes the segment once everything appended so far is written, then gzips it if enabled.
+     */
+    public void close() {
+        writer.close(segment);
+        writer.close(index);
+        if (compressOnClose) {
+            writer.execute(this::compress);
+        }
+    }
+
+    /**
+     * @return path of the (uncompressed) segment file
+     */
+    public Path getPath() {
+        return segmentPath;
+    }
+
+    private void compress() {
+        if (!Files.exists(segmentPath)) return;
+
+        Path compressed = gzipPath(segmentPath);
+        Path partial = Paths.get(compressed + ".part");
+        try (GZIPOutputStream out = new GZIPOutputStream(Files.newOutputStream(partial))) {
+            Files.copy(segmentPath, out);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        try {
+            Files.move(partial, compressed, StandardCopyOption.REPLACE_EXISTING);
+            Files.delete(segmentPath);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static Path gzipPath(Path segment) {
+        return Paths.get(segment + ".gz");
+    }
+
+    /**
+     * Random-access reader of a segment: loads the index once, then fetches single blocks.
+     * Plain segments are read with one positioned read; gzipped ones are streamed up to the block.
+     */
+    public static final class Reader {
+        private final Path segment;
+        private final Map<String, long[]> blocks = new HashMap<>();
+
+        private Reader(Path segment, Path index) throws IOException {
+            this.segment = segment;
+            for (String line : Files.readAllLines(index, StandardCharsets.UTF_8)) {
+                String[] parts = line.split("\t");
+                if (parts.length != 3) continue; // e.g. a line cut short by a crash
+
+                blocks.put(parts[0], new long[]{Long.parseLong(parts[1]), Long.parseLong(parts[2])});
+            }
+        }
+
+        /**
+         * Opens a segment by its path, with or without extension ({@code .seg}, {@code .seg.gz} or {@code .idx}).
+         *
+         * @throws IOException if the index cannot be read
+         */
+        public static Reader open(Path path) throws IOException {
+            String base = path.toString().replaceFirst("\\.(seg\\.gz|seg|idx)$", "");
+            return new Reader(Paths.get(base + ".seg"), Paths.get(base + ".idx"));
+        }
+
+        /**
+         * @return ids of all matches with at least one block in the segment
+         */
+        public Set<String> getMatchIds() {
+            Set<String> ids = new TreeSet<>();
+            for (String key : blocks.keySet()) {
+                ids.add(key.substring(0, key.lastIndexOf(':')));
+            }
+            return ids;
+        }
+
+        /**
+         * @return whether the segment holds a block of the given kind for the match
+         */
+        public boolean contains(String matchId, String kind) {
+            return blocks.containsKey(matchId + ":" + kind);
+        }
+
+        /**
+         * @see #contains(String, String)
+         */
+        public boolean contains(long matchId, String kind) {
+            return contains(Long.toString(matchId), kind);
+        }
+
+        /**
+         * Reads one block.
+         *
+         * @param matchId id of the match
+         * @param kind    {@link #LOG}, {@link #DEBUG} or {@link #EVENTS}
+         * @return the block's bytes
+         * @throws IllegalArgumentException if the segment has no such block
+         * @throws IOException              if the segment cannot be read
+         */
+        public byte[] read(String matchId, String kind) throws IOException {
+            long[] block = blocks.get(matchId + ":" + kind);
+            if (block == null) {
+                throw new IllegalArgumentException("No " + kind + " block for match " + matchId + " in " + segment);
+            }
+            long offset = block[0];
+            int length = (int) block[1];
+
+            if (Files.exists(segment)) {
+                try (FileChannel channel = FileChannel.open(segment)) {
+                    ByteBuffer buffer = ByteBuffer.allocate(length);
+                    while (buffer.hasRemaining()) {
+                        if (channel.read(buffer, offset + buffer.position()) < 0) {
+                            throw new IOException("Segment ends inside block " + matchId + ":" + kind);
+                        }
+                    }
+                    return buffer.array();
+                }
+            }
+
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(gzipPath(segment)))) {
+                in.skipNBytes(offset);
+                byte[] data = in.readNBytes(length);
+                if (data.length != length) {
+                    throw new IOException("Segment ends inside block " + matchId + ":" + kind);
+                }
+                return data;
+            }
+        }
+
+        /**
+         * @see #read(String, String)
+         */
+        public byte[] read(long matchId, String kind) throws IOException {
+            return read(Long.toString(matchId), kind);
+        }
+
+        /**
+         * Reads a text block ({@link #LOG} or {@link #DEBUG}) as lines.
+         */
+        public List<String> readLines(String matchId, String kind) throws IOException {
+            String text = new String(read(matchId, kind), StandardCharsets.UTF_8);
+            return text.isEmpty() ? List.of() : Arrays.asList(text.split("\n"));
+        }
+
+        /**
+         * Reads a text block of a match by its numeric id ({@link com.sal.fm.model.Match#getMatchId()}).
+         */
+        public List<String> readLines(long matchId, String kind) throws IOException {
+            return readLines(Long.toString(matchId), kind);
+        }
+    }
+}
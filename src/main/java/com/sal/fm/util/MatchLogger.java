@@ -1,51 +1,154 @@
 package com.sal.fm.util;
 
-import java.io.*;
+import com.sal.fm.config.MatchConfig;
+import com.sal.fm.engine.MatchCommentary;
+import com.sal.fm.engine.MatchEventRecord;
+import com.sal.fm.engine.MatchEventStream;
+import com.sal.fm.enums.LogFormat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 
-public class MatchLogger {
+/**
+ * File-backed sink for a single match.
+ *
+ * In {@link LogFormat#TEXT} it writes commentary to {@code logs/match_*.log} and debug duel
+ * lines to {@code logs/debug_*.log}. In {@link LogFormat#BINARY} it writes every event as a
+ * fixed-width record to {@code logs/match_*.evt} (see {@link MatchEventStream}), which
+ * {@link MatchEventStream#replay} decodes back to the same commentary.
+ *
+ * Given a {@link MatchLogSegment}, no per-match files are created: the match's logs are
+ * collected in memory and appended to the segment as blocks when the match ends.
+ *
+ * Output is handed to the shared {@link AsyncLogWriter}, which writes it on a background
+ * thread; only console output (non-silent lines) happens inline.
+ */
+public class MatchLogger extends TextEventSink {
     private static final String LOGS_FOLDER = "logs/";
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+    private static final int INITIAL_STREAM_EVENTS = 128;
+
+    private final AsyncLogWriter writer;
+    private final LogFormat format;
+    private final String matchId;
+    private final MatchLogSegment segment;
+
+    // Per-match files (no segment)
+    private AsyncLogWriter.LogFile matchFile;
+    private AsyncLogWriter.LogFile debugFile;
+    private AsyncLogWriter.LogFile eventFile;
 
-    private PrintWriter fileWriter;
-    private PrintWriter debugWriter;
+    // Buffered output: binary stream, or text blocks for a segment
+    private ByteBuffer events;
+    private StringBuilder commentary;
+    private StringBuilder debugLines;
 
     public MatchLogger(String matchId) {
-        try {
-            File dir = new File(LOGS_FOLDER);
-            if (!dir.exists()) {
-                dir.mkdirs();
+        this(matchId, MatchConfig.LOG_FORMAT, AsyncLogWriter.shared());
+    }
+
+    public MatchLogger(String matchId, LogFormat format, AsyncLogWriter writer) {
+        this(matchId, format, writer, null);
+    }
+
+    /**
+     * Creates a logger that appends the match's logs to a shared segment instead of its own files.
+     */
+    public MatchLogger(String matchId, MatchLogSegment segment) {
+        this(matchId, MatchConfig.LOG_FORMAT, AsyncLogWriter.shared(), segment);
+    }
+
+    private MatchLogger(String matchId, LogFormat format, AsyncLogWriter writer, MatchLogSegment segment) {
+        this.writer = writer;
+        this.format = format;
+        this.matchId = matchId;
+        this.segment = segment;
+
+        if (format == LogFormat.BINARY) {
+            events = ByteBuffer.allocate(MatchEventStream.HEADER_SIZE + INITIAL_STREAM_EVENTS * MatchEventStream.RECORD_SIZE);
+            MatchEventStream.writeHeader(events);
+        } else if (segment != null) {
+            commentary = new StringBuilder();
+            debugLines = new StringBuilder();
+        }
+
+        if (segment == null) {
+            String name = matchId + "_" + LocalDateTime.now().format(TIMESTAMP);
+            if (format == LogFormat.BINARY) {
+                eventFile = writer.open(LOGS_FOLDER + "match_" + name + ".evt");
+            } else {
+                matchFile = writer.open(LOGS_FOLDER + "match_" + name + ".log");
+                debugFile = writer.open(LOGS_FOLDER + "debug_" + name + ".log");
             }
+        }
+    }
+
+    @Override
+    public void onEvent(MatchEventRecord event, boolean silent) {
+        if (format == LogFormat.TEXT) {
+            super.onEvent(event, silent);
+            return;
+        }
 
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String matchFile = LOGS_FOLDER + "match_" + matchId + "_" + timestamp + ".log";
-            String debugFile = LOGS_FOLDER + "debug_" + matchId + "_" + timestamp + ".log";
+        if (events.remaining() < MatchEventStream.RECORD_SIZE) {
+            events = ByteBuffer.wrap(Arrays.copyOf(events.array(), events.capacity() * 2)).position(events.position());
+        }
+        MatchEventStream.encode(event, events);
 
-            fileWriter = new PrintWriter(new FileWriter(matchFile, true));
-            debugWriter = new PrintWriter(new FileWriter(debugFile, true));
-        } catch (IOException e) {
-            e.printStackTrace();
+        if (!silent && !event.getType().isDebug()) {
+            System.out.println(String.format("[%02d'] %s", event.getMinute(), MatchCommentary.render(event)));
         }
     }
 
-    public void log(int minute, String message, boolean silent) {
-        String formatted = String.format("[%02d'] %s", minute, message);
-        fileWriter.println(formatted);
-        fileWriter.flush();
+    @Override
+    protected void log(int minute, String message, boolean silent) {
+        if (segment != null) {
+            appendLine(commentary, minute, message);
+        } else {
+            writer.append(matchFile, minute, message);
+        }
 
         if (!silent) {
-            System.out.println(formatted);
+            System.out.println(String.format("[%02d'] %s", minute, message));
         }
     }
 
-    public void logDebug(int minute, String message) {
-        String formatted = String.format("[%02d'] %s", minute, message);
-        debugWriter.println(formatted);
-        debugWriter.flush();
+    @Override
+    protected void logDebug(int minute, String message) {
+        if (segment != null) {
+            appendLine(debugLines, minute, message);
+        } else {
+            writer.append(debugFile, minute, message);
+        }
+    }
+
+    private static void appendLine(StringBuilder out, int minute, String message) {
+        out.append('[');
+        if (minute < 10) out.append('0');
+        out.append(minute).append("'] ").append(message).append('\n');
     }
 
+    @Override
     public void close() {
-        if (fileWriter != null) fileWriter.close();
-        if (debugWriter != null) debugWriter.close();
+        if (segment != null) {
+            if (format == LogFormat.BINARY) {
+                segment.append(matchId, MatchLogSegment.EVENTS, Arrays.copyOf(events.array(), events.position()));
+            } else {
+                segment.append(matchId, MatchLogSegment.LOG, commentary.toString().getBytes(StandardCharsets.UTF_8));
+                if (!debugLines.isEmpty()) {
+                    segment.append(matchId, MatchLogSegment.DEBUG, debugLines.toString().getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        } else if (format == LogFormat.BINARY) {
+            // The whole stream goes out in one write
+            writer.append(eventFile, Arrays.copyOf(events.array(), events.position()));
+            writer.close(eventFile);
+        } else {
+            writer.close(matchFile);
+            writer.close(debugFile);
+        }
     }
-}
\ No newline at end of file
+}
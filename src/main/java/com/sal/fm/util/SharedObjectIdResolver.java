@@ -0,0 +1,28 @@
+package com.sal.fm.util;
+
+import com.fasterxml.jackson.annotation.ObjectIdGenerator;
+import com.fasterxml.jackson.annotation.ObjectIdResolver;
+import com.fasterxml.jackson.annotation.SimpleObjectIdResolver;
+
+/**
+ * Object id resolver that keeps the first object bound to an id instead of failing
+ * when the same id is bound again.
+ *
+ * Saves written before the normalized format embedded full copies of teams and players
+ * wherever they were referenced; this resolver lets those files load, and
+ * {@code League#linkReferences()} then points every reference at the shared instance.
+ */
+public class SharedObjectIdResolver extends SimpleObjectIdResolver {
+
+    @Override
+    public void bindItem(ObjectIdGenerator.IdKey id, Object pojo) {
+        if (resolveId(id) == null) {
+            super.bindItem(id, pojo);
+        }
+    }
+
+    @Override
+    public ObjectIdResolver newForDeserialization(Object context) {
+        return new SharedObjectIdResolver();
+    }
+}
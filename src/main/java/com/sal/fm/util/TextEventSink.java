@@ -0,0 +1,36 @@
+package com.sal.fm.util;
+
+import com.sal.fm.engine.MatchCommentary;
+import com.sal.fm.engine.MatchEventRecord;
+
+/**
+ * Base for sinks that consume text: renders each event with {@link MatchCommentary}
+ * and hands commentary and debug lines to {@link #log} and {@link #logDebug}.
+ */
+public abstract class TextEventSink implements MatchEventSink {
+
+    @Override
+    public void onEvent(MatchEventRecord event, boolean silent) {
+        String message = MatchCommentary.render(event);
+
+        if (event.getType().isDebug()) {
+            logDebug(event.getMinute(), message);
+        } else {
+            log(event.getMinute(), message, silent);
+        }
+    }
+
+    /**
+     * Records a commentary line for the given minute.
+     *
+     * @param minute  match minute the event happened in
+     * @param message commentary text
+     * @param silent  if true, the line is not echoed to the console
+     */
+    protected abstract void log(int minute, String message, boolean silent);
+
+    /**
+     * Records a debug line (duel breakdowns, chances) for the given minute.
+     */
+    protected abstract void logDebug(int minute, String message);
+}